@@ -0,0 +1,77 @@
+package com.reliaquest.api.config;
+
+import java.time.Duration;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Admission control settings for the Employee API.
+ * Reads served from the local roster snapshot and calls that go upstream get separate bulkheads,
+ * so a throttled upstream cannot starve cheap reads of request threads.
+ */
+@Data
+@ConfigurationProperties(prefix = "api.admission")
+public class AdmissionProperties {
+
+    /**
+     * Bulkhead for GET routes, which are served from the roster snapshot whenever it is fresh.
+     */
+    private Route cachedRead = new Route(64, 128);
+
+    /**
+     * Bulkhead for POST/DELETE routes, which always call the upstream server.
+     */
+    private Route upstream = new Route(16, 32);
+
+    /**
+     * How long a queued request may wait for a permit before it is shed.
+     */
+    private Duration queueTimeout = Duration.ofMillis(250);
+
+    /**
+     * Value of the Retry-After header sent with 503 responses.
+     */
+    private Duration retryAfter = Duration.ofSeconds(1);
+
+    /**
+     * Adaptive limit applied to the calls actually sent to the upstream server.
+     */
+    private Adaptive adaptive = new Adaptive();
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Route {
+        private int maxConcurrent;
+        private int maxQueued;
+    }
+
+    @Data
+    public static class Adaptive {
+        private int initialLimit = 8;
+        private int minLimit = 1;
+        private int maxLimit = 64;
+
+        /**
+         * How far the observed latency may drift above the long-term average before the limit shrinks.
+         */
+        private double rttTolerance = 1.5;
+
+        /**
+         * Weight given to each new limit estimate; lower values react more slowly.
+         */
+        private double smoothing = 0.2;
+
+        /**
+         * Multiplier applied to the limit when the upstream answers 429 or times out.
+         */
+        private double backoffRatio = 0.9;
+
+        /**
+         * Number of samples averaged into the long-term latency baseline.
+         */
+        private int longWindow = 600;
+    }
+}
@@ -0,0 +1,50 @@
+package com.reliaquest.api.config;
+
+import com.reliaquest.api.metrics.EmployeeApiMetrics;
+import com.reliaquest.api.service.EmployeeService;
+import com.reliaquest.api.web.AdaptiveConcurrencyLimit;
+import com.reliaquest.api.web.AdmissionControlInterceptor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@RequiredArgsConstructor
+@EnableConfigurationProperties(AdmissionProperties.class)
+public class ApiConfiguration implements WebMvcConfigurer {
+
+    private final AdmissionProperties admissionProperties;
+    private final EmployeeApiMetrics metrics;
+
+    @Bean
+    public AdaptiveConcurrencyLimit upstreamConcurrencyLimit() {
+        final var limit = new AdaptiveConcurrencyLimit(admissionProperties.getAdaptive());
+        metrics.gauge("employee.admission.limit", "upstream-adaptive", limit::getLimit);
+        metrics.gauge("employee.admission.inflight", "upstream-adaptive", limit::getInFlight);
+        return limit;
+    }
+
+    /*
+     * Part of the readiness group: the node only reports ready once the roster snapshot has been fetched
+     * successfully.
+     */
+    @Bean
+    public HealthIndicator rosterHealthIndicator(EmployeeService employeeService) {
+        return () -> employeeService.isWarm()
+                ? Health.up().build()
+                : Health.outOfService()
+                        .withDetail("reason", "Roster snapshot not fetched yet.")
+                        .build();
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new AdmissionControlInterceptor(admissionProperties, metrics))
+                .addPathPatterns("/api/employees/**");
+    }
+}
@@ -0,0 +1,24 @@
+package com.reliaquest.api.controller;
+
+import com.reliaquest.api.web.AdmissionRejectedException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+
+@Slf4j
+@ControllerAdvice
+public class EmployeeControllerAdvice {
+
+    @ExceptionHandler
+    protected ResponseEntity<?> handleAdmissionRejected(AdmissionRejectedException ex) {
+        log.warn("Rejected web request: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(
+                        HttpHeaders.RETRY_AFTER,
+                        String.valueOf(Math.max(1, ex.getRetryAfter().toSeconds())))
+                .build();
+    }
+}
@@ -0,0 +1,125 @@
+package com.reliaquest.api.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.springframework.stereotype.Component;
+
+/**
+ * Micrometer instrumentation for the Employee API hot paths: upstream calls, response decoding,
+ * the roster snapshot and admission control. Exposed through {@code /actuator/prometheus}.
+ */
+@Component
+public class EmployeeApiMetrics {
+
+    private final MeterRegistry registry;
+    private final Counter snapshotHits;
+    private final Counter snapshotStaleHits;
+    private final Counter snapshotMisses;
+
+    private volatile Instant snapshotFetchedAt;
+
+    public EmployeeApiMetrics(MeterRegistry registry) {
+        this.registry = registry;
+        this.snapshotHits = snapshotRequests("hit");
+        this.snapshotStaleHits = snapshotRequests("stale");
+        this.snapshotMisses = snapshotRequests("miss");
+        Gauge.builder("employee.roster.snapshot.age", this, EmployeeApiMetrics::snapshotAgeSeconds)
+                .description("Age of the roster snapshot served to readers.")
+                .baseUnit("seconds")
+                .register(registry);
+    }
+
+    /**
+     * Records one round trip to the backend API.
+     * @param endpoint Logical upstream endpoint, e.g. {@code getAll}.
+     * @param outcome HTTP status code, or {@code timeout}/{@code error} when no response arrived.
+     */
+    public void recordUpstream(String endpoint, String outcome, long nanos) {
+        Timer.builder("employee.upstream.latency")
+                .description("Round-trip time of calls to the backend API.")
+                .tag("endpoint", endpoint)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(registry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void countThrottled(String endpoint) {
+        Counter.builder("employee.upstream.throttled")
+                .description("Calls the backend API answered with 429 Too Many Requests.")
+                .tag("endpoint", endpoint)
+                .register(registry)
+                .increment();
+    }
+
+    /**
+     * Counts a request shed by admission control instead of being served.
+     * @param limiter Name of the bulkhead or limit that rejected the request.
+     */
+    public void countRejected(String limiter) {
+        Counter.builder("employee.admission.rejected")
+                .description("Requests shed by admission control.")
+                .tag("limiter", limiter)
+                .register(registry)
+                .increment();
+    }
+
+    public void recordDecode(String endpoint, int payloadBytes, long nanos) {
+        Timer.builder("employee.upstream.decode")
+                .description("Time spent decoding backend API responses.")
+                .tag("endpoint", endpoint)
+                .publishPercentileHistogram()
+                .register(registry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+        DistributionSummary.builder("employee.upstream.payload")
+                .description("Size of backend API response bodies.")
+                .baseUnit("bytes")
+                .tag("endpoint", endpoint)
+                .register(registry)
+                .record(payloadBytes);
+    }
+
+    public void snapshotHit() {
+        snapshotHits.increment();
+    }
+
+    public void snapshotStaleHit() {
+        snapshotStaleHits.increment();
+    }
+
+    public void snapshotMiss() {
+        snapshotMisses.increment();
+    }
+
+    public void snapshotRefreshed(Instant fetchedAt) {
+        this.snapshotFetchedAt = fetchedAt;
+    }
+
+    /**
+     * Registers a gauge backed by {@code value}, e.g. the current adaptive limit or a bulkhead's queue length.
+     */
+    public void gauge(String name, String limiter, Supplier<Number> value) {
+        Gauge.builder(name, value).tag("limiter", limiter).strongReference(true).register(registry);
+    }
+
+    private Counter snapshotRequests(String result) {
+        return Counter.builder("employee.roster.requests")
+                .description("Roster snapshot lookups by result; hit ratio is hit / (hit + stale + miss).")
+                .tag("result", result)
+                .register(registry);
+    }
+
+    private double snapshotAgeSeconds() {
+        Instant fetchedAt = snapshotFetchedAt;
+        return fetchedAt == null
+                ? Double.NaN
+                : Duration.between(fetchedAt, Instant.now()).toMillis() / 1000.0;
+    }
+}
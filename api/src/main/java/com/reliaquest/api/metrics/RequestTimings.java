@@ -0,0 +1,78 @@
+package com.reliaquest.api.metrics;
+
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * Per-request breakdown of where time was spent, reported through the {@code Server-Timing} response header.
+ * <p>
+ * Timings are kept on the request thread. The static {@code add*} methods are no-ops when no request is being
+ * timed, so the service layer can record unconditionally, e.g. during startup warm-up.
+ */
+public final class RequestTimings {
+
+    public static final String HEADER = "Server-Timing";
+
+    private static final ThreadLocal<RequestTimings> CURRENT = new ThreadLocal<>();
+
+    private final long startNanos = System.nanoTime();
+    private long queueNanos;
+    private long upstreamNanos;
+    private long decodeNanos;
+
+    private RequestTimings() {}
+
+    public static RequestTimings start() {
+        RequestTimings timings = new RequestTimings();
+        CURRENT.set(timings);
+        return timings;
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    public static Optional<RequestTimings> current() {
+        return Optional.ofNullable(CURRENT.get());
+    }
+
+    public static void addQueue(long nanos) {
+        RequestTimings timings = CURRENT.get();
+        if (timings != null) {
+            timings.queueNanos += nanos;
+        }
+    }
+
+    public static void addUpstream(long nanos) {
+        RequestTimings timings = CURRENT.get();
+        if (timings != null) {
+            timings.upstreamNanos += nanos;
+        }
+    }
+
+    public static void addDecode(long nanos) {
+        RequestTimings timings = CURRENT.get();
+        if (timings != null) {
+            timings.decodeNanos += nanos;
+        }
+    }
+
+    /**
+     * Formats the breakdown as a {@code Server-Timing} header value. Compute is whatever part of the elapsed
+     * time was not spent queueing, waiting on the upstream or decoding its response.
+     */
+    public String toHeaderValue() {
+        long elapsed = System.nanoTime() - startNanos;
+        long compute = Math.max(0, elapsed - queueNanos - upstreamNanos - decodeNanos);
+        return String.join(
+                ", ",
+                metric("queue", queueNanos),
+                metric("upstream", upstreamNanos),
+                metric("decode", decodeNanos),
+                metric("compute", compute));
+    }
+
+    private static String metric(String name, long nanos) {
+        return String.format(Locale.ROOT, "%s;dur=%.3f", name, nanos / 1_000_000.0);
+    }
+}
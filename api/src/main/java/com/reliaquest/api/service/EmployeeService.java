@@ -20,4 +20,9 @@ public interface EmployeeService {
     Employee createEmployee(Employee employee);
 
     String deleteEmployeeById(String id);
+
+    /**
+     * @return true once the roster has been fetched successfully from the backend API and its indexes built.
+     */
+    boolean isWarm();
 }
@@ -1,145 +1,450 @@
 package com.reliaquest.api.service;
 
-import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.reliaquest.api.config.AdmissionProperties;
+import com.reliaquest.api.metrics.EmployeeApiMetrics;
+import com.reliaquest.api.metrics.RequestTimings;
 import com.reliaquest.api.model.Employee;
-import org.springframework.stereotype.Service;
-
+import com.reliaquest.api.web.AdaptiveConcurrencyLimit;
+import com.reliaquest.api.web.AdmissionRejectedException;
+import java.io.IOException;
 import java.net.URI;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.OptionalLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongFunction;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
 
 /**
  * Implementation of the EmployeeService interface.
  * Handles business logic and communication with the backend API.
+ * Read operations are served from a short-lived roster snapshot; every call that does reach the backend API
+ * goes through the adaptive upstream concurrency limit.
+ * Creates and deletes confirmed by the backend API are layered over the snapshot as versioned overlays, so they
+ * are visible to readers on this node immediately without fetching or re-indexing the roster.
  */
+@Slf4j
 @Service
 public class EmployeeServiceImpl implements EmployeeService {
 
-    private static final String BASE_URL = "http://localhost:8112/api/v1/employee";
-    private final HttpClient httpClient = HttpClient.newHttpClient();
+    private static final JavaType EMPLOYEE_LIST =
+            TypeFactory.defaultInstance().constructCollectionType(List.class, Employee.class);
+    private static final RosterSnapshot EMPTY_ROSTER = RosterSnapshot.of(Collections.emptyList(), Instant.EPOCH);
+
+    private final String baseUrl;
+    private final HttpClient httpClient;
     private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AdaptiveConcurrencyLimit upstreamLimit;
+    private final EmployeeApiMetrics metrics;
+    private final Duration retryAfter;
+    private final Duration rosterTtl;
+    private final Duration upstreamTimeout;
+
+    private final ReentrantLock refreshLock = new ReentrantLock();
+    private volatile RosterSnapshot snapshot;
+    private volatile boolean warm;
+    private volatile Instant upstreamThrottledUntil = Instant.EPOCH;
+
+    // Guards the snapshot swaps that involve overlays, and the two fields below
+    private final ReentrantLock overlayLock = new ReentrantLock();
+    private final List<RosterOverlay> pendingOverlays = new ArrayList<>();
+    private long writeVersion;
+
+    public EmployeeServiceImpl(
+            AdaptiveConcurrencyLimit upstreamLimit,
+            EmployeeApiMetrics metrics,
+            AdmissionProperties admissionProperties,
+            @Value("${api.upstream.base-url:http://localhost:8112/api/v1/employee}") String baseUrl,
+            @Value("${api.roster.ttl:5s}") Duration rosterTtl,
+            @Value("${api.upstream.timeout:2s}") Duration upstreamTimeout) {
+        this.upstreamLimit = upstreamLimit;
+        this.metrics = metrics;
+        this.retryAfter = admissionProperties.getRetryAfter();
+        this.baseUrl = baseUrl;
+        this.rosterTtl = rosterTtl;
+        this.upstreamTimeout = upstreamTimeout;
+        this.httpClient =
+                HttpClient.newBuilder().connectTimeout(upstreamTimeout).build();
+    }
 
     /**
-     * Fetches all employees from the backend API.
+     * Fetches all employees, from the roster snapshot when it is fresh and from the backend API otherwise.
      * @return List of Employee objects.
      */
     @Override
     public List<Employee> getAllEmployees() {
-        // Send a GET request to the API to fetch all employees
-        try {
-            HttpRequest request = HttpRequest.newBuilder()
-                    .uri(URI.create(BASE_URL))
-                    .GET()
-                    .build();
-
-            // Send the request and parse the response
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
-
-            // Convert the response to a list of Employee objects
-            Map<String, Object> responseMap = objectMapper.readValue(response.body(), Map.class);
-            return objectMapper.convertValue(responseMap.get("data"), new TypeReference<List<Employee>>() {});
-        } catch (Exception e) {
-            e.printStackTrace();
-            return Collections.emptyList();
-        }
+        return currentSnapshot().employees();
     }
 
     /**
-     * Fetches an employee by ID from the backend API.
+     * Fetches an employee by ID, from the roster snapshot when present and from the backend API otherwise.
      * @param id Employee ID.
      * @return Employee object if found, otherwise null.
      */
     @Override
     public Employee getEmployeeById(String id) {
-        try {
-            HttpRequest request = HttpRequest.newBuilder()
-                    .uri(URI.create(BASE_URL + "/" + id))
-                    .GET()
-                    .build();
+        Employee cached = currentSnapshot().employee(id);
+        if (cached != null) {
+            return cached;
+        }
 
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
-            Map<String, Object> responseMap = objectMapper.readValue(response.body(), Map.class);
-            return objectMapper.convertValue(responseMap.get("data"), Employee.class);
+        try {
+            return fetchEmployeeById(id);
+        } catch (AdmissionRejectedException e) {
+            throw e;
         } catch (Exception e) {
-            e.printStackTrace();
+            log.error("Failed to fetch employee {}.", id, e);
             return null;
         }
     }
 
     /**
-     * Creates a new employee via the backend API.
+     * Creates a new employee via the backend API and adds it to the roster snapshot.
      * @param employee The Employee object to create.
      * @return The created Employee or null if creation fails.
      */
     @Override
     public Employee createEmployee(Employee employee) {
         try {
-            String jsonBody = objectMapper.writeValueAsString(employee);
+            // The backend API expects plain attribute names rather than the employee_* ones it answers with
+            Map<String, Object> input = new LinkedHashMap<>();
+            input.put("name", employee.getName());
+            input.put("salary", employee.getSalary());
+            input.put("age", employee.getAge());
+            input.put("title", employee.getTitle());
+            String jsonBody = objectMapper.writeValueAsString(input);
 
             HttpRequest request = HttpRequest.newBuilder()
-                    .uri(URI.create(BASE_URL))
+                    .uri(URI.create(baseUrl))
+                    .timeout(upstreamTimeout)
                     .header("Content-Type", "application/json")
                     .POST(HttpRequest.BodyPublishers.ofString(jsonBody))
                     .build();
 
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
-            Map<String, Object> responseMap = objectMapper.readValue(response.body(), Map.class);
-            return objectMapper.convertValue(responseMap.get("data"), Employee.class);
+            HttpResponse<byte[]> response = send("create", request);
+            Employee created = decode("create", response, Employee.class);
+            if (created != null && created.getId() != null) {
+                applyOverlay(version -> RosterOverlay.upsert(version, created));
+            }
+            return created;
+        } catch (AdmissionRejectedException e) {
+            throw e;
         } catch (Exception e) {
-            e.printStackTrace();
+            log.error("Failed to create employee.", e);
             return null;
         }
     }
 
     /**
-     * Deletes an employee by ID via the backend API.
+     * Deletes an employee by ID via the backend API and removes it from the roster snapshot.
      * @param id Employee ID.
      * @return Success or failure message.
      */
     @Override
     public String deleteEmployeeById(String id) {
         try {
+            // Resolved from the snapshot as it is, however old: a write never downloads the whole roster
+            RosterSnapshot current = snapshot;
+            Employee employee = current != null ? current.employee(id) : null;
+            if (employee == null) {
+                employee = fetchEmployeeById(id);
+            }
+            if (employee == null) {
+                return "Failed to delete employee.";
+            }
+            // Without a roster yet there is nothing to check against; the delete goes ahead as before
+            if (current != null && hasNamesake(current, employee)) {
+                // The backend API deletes the first employee with a matching name, which may not be this one
+                log.warn("Refusing to delete employee {}: another employee is also named {}.", id, employee.getName());
+                return "Failed to delete employee.";
+            }
+
+            // The backend API deletes by name, given in the request body
+            String jsonBody = objectMapper.writeValueAsString(Map.of("name", employee.getName()));
             HttpRequest request = HttpRequest.newBuilder()
-                    .uri(URI.create(BASE_URL + "/" + id))
-                    .DELETE() // Send a DELETE request
-                    .build(); // Build the request
+                    .uri(URI.create(baseUrl))
+                    .timeout(upstreamTimeout)
+                    .header("Content-Type", "application/json")
+                    .method("DELETE", HttpRequest.BodyPublishers.ofString(jsonBody))
+                    .build();
 
-            // Send the request and return the response
-            httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            HttpResponse<byte[]> response = send("delete", request);
+            if (!Boolean.TRUE.equals(decode("delete", response, Boolean.class))) {
+                return "Failed to delete employee.";
+            }
+            applyOverlay(version -> RosterOverlay.tombstone(version, id));
             return "Employee deleted successfully.";
+        } catch (AdmissionRejectedException e) {
+            throw e;
         } catch (Exception e) {
-            e.printStackTrace();
+            log.error("Failed to delete employee {}.", id, e);
             return "Failed to delete employee.";
         }
     }
 
     @Override
     public int getHighestSalaryOfEmployees() {
-        // Get all the employees and find the one with the highest salary using streams
-        return getAllEmployees().stream()
-                .mapToInt(Employee::getSalary) // Convert the list to an IntStream of salaries
-                .max() // Find the maximum salary
-                .orElse(0); // Return 0 if there are no employees
+        // The snapshot keeps employees ordered by salary, so the highest one is simply the first
+        List<Employee> top = currentSnapshot().topBySalary(1);
+        return top.isEmpty() ? 0 : top.get(0).getSalary(); // Return 0 if there are no employees
     }
 
     @Override
     public List<String> getTopTenHighestEarningEmployeeNames() {
-        return getAllEmployees().stream() // Get all employees
-                .sorted((a, b) -> Integer.compare(b.getSalary(), a.getSalary())) // Sort by salary in descending order
-                .limit(10)  // Get the top 10 employees
+        return currentSnapshot().topBySalary(10).stream() // Get the top 10 employees, sorted by salary descending
                 .map(Employee::getName) // Extract the names
                 .toList(); // Convert to a list
     }
 
     @Override
     public List<Employee> getEmployeesByNameSearch(String name) {
+        String needle = name.toLowerCase();
         return getAllEmployees().stream() // Get all employees
-                .filter(emp -> emp.getName().toLowerCase().contains(name.toLowerCase())) // Filter by name
+                .filter(emp -> Objects.nonNull(emp.getName())
+                        && emp.getName().toLowerCase().contains(needle)) // Filter by name
                 .toList();
     }
+
+    /**
+     * Whether another employee in the roster has the same name, compared case-insensitively as the backend API
+     * compares it when deleting.
+     */
+    private static boolean hasNamesake(RosterSnapshot roster, Employee employee) {
+        return roster.employees().stream()
+                .anyMatch(other -> !Objects.equals(other.getId(), employee.getId())
+                        && employee.getName().equalsIgnoreCase(other.getName()));
+    }
+
+    @Override
+    public boolean isWarm() {
+        return warm;
+    }
+
+    /**
+     * Returns the roster snapshot, refreshing it from the backend API once it is older than the TTL.
+     * Only one thread refreshes at a time; while it does, other readers keep getting the stale snapshot, and
+     * a stale snapshot is also served when the refresh is throttled or fails.
+     */
+    private RosterSnapshot currentSnapshot() {
+        RosterSnapshot current = snapshot;
+        if (current != null && current.isFresh(rosterTtl, Instant.now())) {
+            metrics.snapshotHit();
+            return current;
+        }
+        if (current != null && !refreshLock.tryLock()) {
+            metrics.snapshotStaleHit();
+            return current;
+        }
+        if (current == null) {
+            refreshLock.lock();
+        }
+
+        try {
+            current = snapshot;
+            if (current != null && current.isFresh(rosterTtl, Instant.now())) {
+                metrics.snapshotHit();
+                return current;
+            }
+            metrics.snapshotMiss();
+            long horizon = currentWriteVersion();
+            RosterSnapshot refreshed = install(fetchAllEmployees(), Instant.now(), horizon);
+            // Only reached with a roster from a 2xx answer; failed and throttled fetches throw instead
+            warm = true;
+            metrics.snapshotRefreshed(refreshed.fetchedAt());
+            return refreshed;
+        } catch (AdmissionRejectedException e) {
+            if (current != null) {
+                log.warn("Serving stale roster snapshot: {}", e.getMessage());
+                return current;
+            }
+            throw e;
+        } catch (Exception e) {
+            log.error("Failed to refresh roster snapshot.", e);
+            return current != null ? current : EMPTY_ROSTER;
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    /**
+     * Layers a write the backend API has confirmed over the roster snapshot, so readers on this node see it at once.
+     * Only the snapshot's overlay layer is copied; the base roster and its indexes are shared.
+     * The overlay stays pending, and is applied again to every refreshed roster, until a refresh fetched after the
+     * write was confirmed makes it redundant.
+     */
+    private void applyOverlay(LongFunction<RosterOverlay> overlayForVersion) {
+        overlayLock.lock();
+        try {
+            RosterOverlay overlay = overlayForVersion.apply(++writeVersion);
+            pendingOverlays.add(overlay);
+            RosterSnapshot current = snapshot;
+            if (current != null) {
+                snapshot = current.apply(overlay);
+            }
+        } finally {
+            overlayLock.unlock();
+        }
+    }
+
+    private long currentWriteVersion() {
+        overlayLock.lock();
+        try {
+            return writeVersion;
+        } finally {
+            overlayLock.unlock();
+        }
+    }
+
+    /**
+     * Installs a roster fetched from the backend API. Overlays up to {@code horizon} were confirmed before the fetch
+     * was sent, so the roster already reflects them and they are dropped; later ones may be missing from it and are
+     * applied on top again.
+     */
+    private RosterSnapshot install(List<Employee> employees, Instant fetchedAt, long horizon) {
+        overlayLock.lock();
+        try {
+            pendingOverlays.removeIf(overlay -> overlay.version() <= horizon);
+            RosterSnapshot installed = RosterSnapshot.of(employees, fetchedAt).applyAll(pendingOverlays);
+            snapshot = installed;
+            return installed;
+        } finally {
+            overlayLock.unlock();
+        }
+    }
+
+    /**
+     * Fetches a single employee from the backend API.
+     * @return the employee, or null if the backend API does not know the id.
+     */
+    private Employee fetchEmployeeById(String id) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder()
+                .uri(URI.create(baseUrl + "/" + id))
+                .timeout(upstreamTimeout)
+                .GET()
+                .build();
+
+        HttpResponse<byte[]> response = send("getById", request);
+        if (response.statusCode() == HttpStatus.NOT_FOUND.value()) {
+            return null;
+        }
+        return decode("getById", response, Employee.class);
+    }
+
+    private List<Employee> fetchAllEmployees() throws IOException, InterruptedException {
+        // Send a GET request to the API to fetch all employees
+        HttpRequest request = HttpRequest.newBuilder()
+                .uri(URI.create(baseUrl))
+                .timeout(upstreamTimeout)
+                .GET()
+                .build();
+
+        // Send the request and convert the response to a list of Employee objects
+        HttpResponse<byte[]> response = send("getAll", request);
+        List<Employee> employees = decode("getAll", response, EMPLOYEE_LIST);
+        if (employees == null) {
+            throw new IOException("Backend API answered without a roster.");
+        }
+        return employees;
+    }
+
+    /**
+     * Unwraps the {@code data} field of a successful backend API response, recording decode time and payload size.
+     * @throws UpstreamErrorException if the backend API answered with anything but a 2xx status.
+     */
+    private <T> T decode(String endpoint, HttpResponse<byte[]> response, JavaType type) throws IOException {
+        if (response.statusCode() / 100 != 2) {
+            throw new UpstreamErrorException(endpoint, response.statusCode());
+        }
+        long start = System.nanoTime();
+        try {
+            Map<String, Object> responseMap = objectMapper.readValue(response.body(), Map.class);
+            return objectMapper.convertValue(responseMap.get("data"), type);
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            RequestTimings.addDecode(elapsed);
+            metrics.recordDecode(endpoint, response.body().length, elapsed);
+        }
+    }
+
+    private <T> T decode(String endpoint, HttpResponse<byte[]> response, Class<T> type) throws IOException {
+        return decode(endpoint, response, objectMapper.constructType(type));
+    }
+
+    /**
+     * Sends a request to the backend API within the adaptive upstream concurrency limit.
+     * A 429 answer or a timeout shrinks the limit and is surfaced as an {@link AdmissionRejectedException};
+     * a 5xx answer shrinks it too and is surfaced as an {@link UpstreamErrorException}.
+     * After a 429, requests fail fast until the backend API's {@code Retry-After} has passed.
+     */
+    private HttpResponse<byte[]> send(String endpoint, HttpRequest request) throws IOException, InterruptedException {
+        Duration throttledFor = Duration.between(Instant.now(), upstreamThrottledUntil);
+        if (!throttledFor.isNegative() && !throttledFor.isZero()) {
+            metrics.countRejected("upstream-retry-after");
+            throw new AdmissionRejectedException("Upstream asked us to back off.", throttledFor);
+        }
+
+        AdaptiveConcurrencyLimit.Listener listener = upstreamLimit.tryAcquire();
+        if (listener == null) {
+            metrics.countRejected("upstream-adaptive");
+            throw new AdmissionRejectedException("Upstream concurrency limit reached.", retryAfter);
+        }
+
+        long start = System.nanoTime();
+        String outcome = "error";
+        try {
+            HttpResponse<byte[]> response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+            outcome = String.valueOf(response.statusCode());
+            if (response.statusCode() == HttpStatus.TOO_MANY_REQUESTS.value()) {
+                listener.onDropped();
+                metrics.countThrottled(endpoint);
+                Duration backoff = upstreamRetryAfter(response);
+                upstreamThrottledUntil = Instant.now().plus(backoff);
+                throw new AdmissionRejectedException("Upstream is throttling requests.", backoff);
+            }
+            if (response.statusCode() >= HttpStatus.INTERNAL_SERVER_ERROR.value()) {
+                // A failing upstream is not a healthy latency sample
+                listener.onDropped();
+                throw new UpstreamErrorException(endpoint, response.statusCode());
+            }
+            listener.onSuccess();
+            return response;
+        } catch (HttpTimeoutException e) {
+            outcome = "timeout";
+            listener.onDropped();
+            throw e;
+        } finally {
+            // No-op when the outcome has already been reported above
+            listener.onIgnore();
+            long elapsed = System.nanoTime() - start;
+            RequestTimings.addUpstream(elapsed);
+            metrics.recordUpstream(endpoint, outcome, elapsed);
+        }
+    }
+
+    private Duration upstreamRetryAfter(HttpResponse<?> response) {
+        try {
+            OptionalLong seconds = response.headers().firstValueAsLong(HttpHeaders.RETRY_AFTER);
+            return seconds.isPresent() ? Duration.ofSeconds(seconds.getAsLong()) : retryAfter;
+        } catch (NumberFormatException e) {
+            // An HTTP-date rather than a number of seconds
+            return retryAfter;
+        }
+    }
 }
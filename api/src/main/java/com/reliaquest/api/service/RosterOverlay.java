@@ -0,0 +1,22 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.model.Employee;
+
+/**
+ * A write confirmed by the backend API and applied to the local roster ahead of the next refresh: either the
+ * employee it returned, or a tombstone for a deleted id. Versions increase with every confirmed write.
+ */
+public record RosterOverlay(long version, String id, Employee employee) {
+
+    public static RosterOverlay upsert(long version, Employee employee) {
+        return new RosterOverlay(version, employee.getId(), employee);
+    }
+
+    public static RosterOverlay tombstone(long version, String id) {
+        return new RosterOverlay(version, id, null);
+    }
+
+    public boolean isTombstone() {
+        return employee == null;
+    }
+}
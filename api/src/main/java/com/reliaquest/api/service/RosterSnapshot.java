@@ -0,0 +1,164 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.model.Employee;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Immutable view of the employee roster: the base roster as last fetched from the backend API with the secondary
+ * indexes the read endpoints need, plus a small layer of confirmed writes keyed by employee id that readers consult
+ * on top of it. The base indexes are built once per fetch and never copied afterwards; {@link #apply} only copies
+ * the overlay layer, which holds the writes confirmed since the roster was fetched.
+ */
+public final class RosterSnapshot {
+
+    private static final Comparator<Employee> SALARY_DESC =
+            Comparator.comparing(Employee::getSalary).reversed();
+
+    private final List<Employee> base;
+    private final Map<String, Employee> baseById;
+    private final List<Employee> baseBySalaryDesc;
+    private final Map<String, RosterOverlay> overlays;
+    private final List<Employee> overlaysBySalaryDesc;
+    private final Instant fetchedAt;
+
+    private RosterSnapshot(
+            List<Employee> base,
+            Map<String, Employee> baseById,
+            List<Employee> baseBySalaryDesc,
+            Map<String, RosterOverlay> overlays,
+            Instant fetchedAt) {
+        this.base = base;
+        this.baseById = baseById;
+        this.baseBySalaryDesc = baseBySalaryDesc;
+        this.overlays = overlays;
+        this.overlaysBySalaryDesc = overlays.values().stream()
+                .filter(overlay -> !overlay.isTombstone())
+                .map(RosterOverlay::employee)
+                .filter(employee -> Objects.nonNull(employee.getSalary()))
+                .sorted(SALARY_DESC)
+                .toList();
+        this.fetchedAt = fetchedAt;
+    }
+
+    public static RosterSnapshot of(List<Employee> employees, Instant fetchedAt) {
+        final var byId = employees.stream()
+                .filter(employee -> Objects.nonNull(employee.getId()))
+                .collect(Collectors.toUnmodifiableMap(Employee::getId, Function.identity(), (first, second) -> first));
+        final var bySalaryDesc = employees.stream()
+                .filter(employee -> Objects.nonNull(employee.getSalary()))
+                .sorted(SALARY_DESC)
+                .toList();
+        return new RosterSnapshot(List.copyOf(employees), byId, bySalaryDesc, Map.of(), fetchedAt);
+    }
+
+    public Instant fetchedAt() {
+        return fetchedAt;
+    }
+
+    public boolean isFresh(Duration ttl, Instant now) {
+        return fetchedAt.plus(ttl).isAfter(now);
+    }
+
+    /**
+     * Returns a snapshot sharing this one's base roster, with the overlay replacing any earlier one for the same
+     * id. Applying the same overlay twice gives the same roster, and {@link #fetchedAt()} is unchanged.
+     */
+    public RosterSnapshot apply(RosterOverlay overlay) {
+        return applyAll(List.of(overlay));
+    }
+
+    /**
+     * Same as applying each overlay in turn, copying the overlay layer only once.
+     */
+    public RosterSnapshot applyAll(Collection<RosterOverlay> overlays) {
+        if (overlays.isEmpty()) {
+            return this;
+        }
+        final var updated = new LinkedHashMap<>(this.overlays);
+        for (RosterOverlay overlay : overlays) {
+            updated.remove(overlay.id()); // Re-inserted last, so the roster keeps the order of the writes
+            updated.put(overlay.id(), overlay);
+        }
+        return new RosterSnapshot(base, baseById, baseBySalaryDesc, Collections.unmodifiableMap(updated), fetchedAt);
+    }
+
+    /**
+     * The base roster without the employees the overlays replace or delete, followed by the employees they add.
+     */
+    public List<Employee> employees() {
+        if (overlays.isEmpty()) {
+            return base;
+        }
+        final var employees = new ArrayList<Employee>(base.size() + overlays.size());
+        for (Employee employee : base) {
+            if (!overlays.containsKey(employee.getId())) {
+                employees.add(employee);
+            }
+        }
+        for (RosterOverlay overlay : overlays.values()) {
+            if (!overlay.isTombstone()) {
+                employees.add(overlay.employee());
+            }
+        }
+        return Collections.unmodifiableList(employees);
+    }
+
+    /**
+     * @return the employee with the given id, or null if the roster has none.
+     */
+    public Employee employee(String id) {
+        RosterOverlay overlay = overlays.get(id);
+        if (overlay != null) {
+            return overlay.employee(); // Null for a tombstone
+        }
+        return baseById.get(id);
+    }
+
+    /**
+     * The {@code limit} best paid employees, merging the salary-ordered base roster with the employees the overlays
+     * add. An added employee comes after base employees earning the same, as a stable sort of the roster would
+     * place it.
+     */
+    public List<Employee> topBySalary(int limit) {
+        if (overlays.isEmpty()) {
+            return baseBySalaryDesc.subList(0, Math.min(limit, baseBySalaryDesc.size()));
+        }
+        final var top = new ArrayList<Employee>(limit);
+        Iterator<Employee> fromBase = baseBySalaryDesc.iterator();
+        Iterator<Employee> fromOverlays = overlaysBySalaryDesc.iterator();
+        Employee nextBase = nextUnreplaced(fromBase);
+        Employee nextOverlay = fromOverlays.hasNext() ? fromOverlays.next() : null;
+        while (top.size() < limit && (nextBase != null || nextOverlay != null)) {
+            if (nextOverlay == null || (nextBase != null && SALARY_DESC.compare(nextBase, nextOverlay) <= 0)) {
+                top.add(nextBase);
+                nextBase = nextUnreplaced(fromBase);
+            } else {
+                top.add(nextOverlay);
+                nextOverlay = fromOverlays.hasNext() ? fromOverlays.next() : null;
+            }
+        }
+        return Collections.unmodifiableList(top);
+    }
+
+    private Employee nextUnreplaced(Iterator<Employee> employees) {
+        while (employees.hasNext()) {
+            Employee employee = employees.next();
+            if (!overlays.containsKey(employee.getId())) {
+                return employee;
+            }
+        }
+        return null;
+    }
+}
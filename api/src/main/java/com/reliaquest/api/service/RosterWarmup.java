@@ -0,0 +1,69 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.web.AdmissionRejectedException;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Prefetches the roster snapshot once the application is up, and exercises each read path once so its classes are
+ * loaded before real traffic arrives. Retries in the background until the backend API answers; the {@code roster}
+ * readiness check stays out of service until then.
+ */
+@Slf4j
+@Component
+public class RosterWarmup {
+
+    private final EmployeeService employeeService;
+    private final Duration retryInterval;
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "roster-warmup");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public RosterWarmup(
+            EmployeeService employeeService, @Value("${api.startup.warmup-retry:1s}") Duration retryInterval) {
+        this.employeeService = employeeService;
+        this.retryInterval = retryInterval;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void prefetch() {
+        executor.execute(this::attempt);
+    }
+
+    @PreDestroy
+    public void stop() {
+        executor.shutdownNow();
+    }
+
+    private void attempt() {
+        long start = System.nanoTime();
+        try {
+            employeeService.getAllEmployees();
+            if (employeeService.isWarm()) {
+                employeeService.getHighestSalaryOfEmployees();
+                employeeService.getTopTenHighestEarningEmployeeNames();
+                employeeService.getEmployeesByNameSearch("a");
+                log.info("Roster snapshot warm after {} ms.", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+                executor.shutdown();
+                return;
+            }
+        } catch (AdmissionRejectedException e) {
+            log.warn("Roster prefetch rejected: {}", e.getMessage());
+        }
+
+        if (!executor.isShutdown()) {
+            log.info("Roster snapshot not available yet; retrying in {}.", retryInterval);
+            executor.schedule(this::attempt, retryInterval.toNanos(), TimeUnit.NANOSECONDS);
+        }
+    }
+}
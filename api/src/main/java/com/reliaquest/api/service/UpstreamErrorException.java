@@ -0,0 +1,19 @@
+package com.reliaquest.api.service;
+
+import java.io.IOException;
+import lombok.Getter;
+
+/**
+ * Thrown when the backend API answers with an error status, so callers fall back (to the stale roster snapshot,
+ * or to a failure result) instead of treating the error body as data.
+ */
+@Getter
+public class UpstreamErrorException extends IOException {
+
+    private final int status;
+
+    public UpstreamErrorException(String endpoint, int status) {
+        super("Backend API answered %s with %d.".formatted(endpoint, status));
+        this.status = status;
+    }
+}
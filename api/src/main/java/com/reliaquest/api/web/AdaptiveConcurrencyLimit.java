@@ -0,0 +1,138 @@
+package com.reliaquest.api.web;
+
+import com.reliaquest.api.config.AdmissionProperties;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+/**
+ * Gradient-style concurrency limit for calls to the upstream server.
+ * <p>
+ * Every completed call feeds its round-trip time back into the limit. While latency stays close to the
+ * long-term baseline the limit grows by roughly {@code sqrt(limit)}; once latency rises above the baseline
+ * (the upstream is queueing) the limit shrinks in proportion, and a 429 or timeout backs it off
+ * multiplicatively. Calls beyond the current limit are rejected instead of piling up on request threads.
+ */
+public class AdaptiveConcurrencyLimit {
+
+    private final AdmissionProperties.Adaptive settings;
+    private final LongSupplier nanoTime;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private volatile double limit;
+    private double longRttNanos;
+
+    public AdaptiveConcurrencyLimit(AdmissionProperties.Adaptive settings) {
+        this(settings, System::nanoTime);
+    }
+
+    /**
+     * @param nanoTime Clock used to measure round trips; tests pass a fake one to control them exactly.
+     */
+    public AdaptiveConcurrencyLimit(AdmissionProperties.Adaptive settings, LongSupplier nanoTime) {
+        this.settings = settings;
+        this.nanoTime = nanoTime;
+        this.limit = settings.getInitialLimit();
+    }
+
+    /**
+     * Tries to reserve a slot for one upstream call.
+     * @return a listener that must be completed exactly once, or null if the limit has been reached.
+     */
+    public Listener tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= (int) limit) {
+                return null;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return new Listener(nanoTime.getAsLong(), current + 1);
+            }
+        }
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    private synchronized void onSample(long rttNanos, int inFlightAtStart) {
+        if (longRttNanos == 0) {
+            longRttNanos = rttNanos;
+        } else {
+            longRttNanos += (rttNanos - longRttNanos) / settings.getLongWindow();
+        }
+        // Let the baseline recover quickly after a latency spike instead of staying inflated.
+        if (longRttNanos > 2 * rttNanos) {
+            longRttNanos = 0.95 * longRttNanos;
+        }
+
+        double current = limit;
+        double gradient = Math.max(0.5, Math.min(1.0, settings.getRttTolerance() * longRttNanos / rttNanos));
+        double estimate = current * gradient + Math.sqrt(current);
+        // Do not grow the limit when the caller is not actually using it.
+        if (inFlightAtStart < current / 2) {
+            estimate = Math.min(estimate, current);
+        }
+        update(current * (1 - settings.getSmoothing()) + estimate * settings.getSmoothing());
+    }
+
+    private synchronized void onDropped() {
+        update(limit * settings.getBackoffRatio());
+    }
+
+    private void update(double newLimit) {
+        limit = Math.max(settings.getMinLimit(), Math.min(settings.getMaxLimit(), newLimit));
+    }
+
+    /**
+     * Reports the outcome of one admitted upstream call.
+     */
+    public class Listener {
+
+        private final long startNanos;
+        private final int inFlightAtStart;
+        private boolean completed;
+
+        private Listener(long startNanos, int inFlightAtStart) {
+            this.startNanos = startNanos;
+            this.inFlightAtStart = inFlightAtStart;
+        }
+
+        /**
+         * The upstream answered normally; its latency adjusts the limit.
+         */
+        public void onSuccess() {
+            if (complete()) {
+                onSample(nanoTime.getAsLong() - startNanos, inFlightAtStart);
+            }
+        }
+
+        /**
+         * The upstream throttled us or timed out; back off.
+         */
+        public void onDropped() {
+            if (complete()) {
+                AdaptiveConcurrencyLimit.this.onDropped();
+            }
+        }
+
+        /**
+         * The call failed for a reason unrelated to upstream load; release the slot without a sample.
+         */
+        public void onIgnore() {
+            complete();
+        }
+
+        private boolean complete() {
+            if (completed) {
+                return false;
+            }
+            completed = true;
+            inFlight.decrementAndGet();
+            return true;
+        }
+    }
+}
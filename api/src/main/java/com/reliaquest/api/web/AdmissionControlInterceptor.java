@@ -0,0 +1,76 @@
+package com.reliaquest.api.web;
+
+import com.reliaquest.api.config.AdmissionProperties;
+import com.reliaquest.api.metrics.EmployeeApiMetrics;
+import com.reliaquest.api.metrics.RequestTimings;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Admits each Employee API request through the bulkhead for its route.
+ * GET routes are served from the roster snapshot, POST/DELETE routes always go upstream, so they are limited
+ * separately. When a bulkhead's permits and queue are both exhausted the request is answered with
+ * {@code 503} and {@code Retry-After} straight away.
+ */
+@Slf4j
+public class AdmissionControlInterceptor implements HandlerInterceptor {
+
+    private static final String PERMIT_ATTRIBUTE = AdmissionControlInterceptor.class.getName() + ".permit";
+
+    private final AdmissionProperties properties;
+    private final EmployeeApiMetrics metrics;
+    private final Bulkhead cachedRead;
+    private final Bulkhead upstream;
+
+    public AdmissionControlInterceptor(AdmissionProperties properties, EmployeeApiMetrics metrics) {
+        this.properties = properties;
+        this.metrics = metrics;
+        this.cachedRead = new Bulkhead(
+                "cached-read",
+                properties.getCachedRead().getMaxConcurrent(),
+                properties.getCachedRead().getMaxQueued());
+        this.upstream = new Bulkhead(
+                "upstream",
+                properties.getUpstream().getMaxConcurrent(),
+                properties.getUpstream().getMaxQueued());
+        metrics.gauge("employee.admission.queued", cachedRead.getName(), cachedRead::getQueued);
+        metrics.gauge("employee.admission.queued", upstream.getName(), upstream::getQueued);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        final var bulkhead = HttpMethod.GET.matches(request.getMethod()) ? cachedRead : upstream;
+        long queueStart = System.nanoTime();
+        boolean admitted = bulkhead.tryAcquire(properties.getQueueTimeout());
+        RequestTimings.addQueue(System.nanoTime() - queueStart);
+        if (!admitted) {
+            metrics.countRejected(bulkhead.getName());
+            log.warn(
+                    "Shedding {} {}: {} bulkhead is full.",
+                    request.getMethod(),
+                    request.getRequestURI(),
+                    bulkhead.getName());
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            response.setHeader(
+                    HttpHeaders.RETRY_AFTER,
+                    String.valueOf(Math.max(1, properties.getRetryAfter().toSeconds())));
+            return false;
+        }
+        request.setAttribute(PERMIT_ATTRIBUTE, bulkhead);
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(
+            HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (request.getAttribute(PERMIT_ATTRIBUTE) instanceof Bulkhead bulkhead) {
+            request.removeAttribute(PERMIT_ATTRIBUTE);
+            bulkhead.release();
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.reliaquest.api.web;
+
+import java.time.Duration;
+import lombok.Getter;
+
+/**
+ * Thrown when a request cannot be admitted, either by a route bulkhead or by the upstream concurrency limit.
+ * Mapped to {@code 503 Service Unavailable} with a {@code Retry-After} header.
+ */
+@Getter
+public class AdmissionRejectedException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    public AdmissionRejectedException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+}
@@ -0,0 +1,61 @@
+package com.reliaquest.api.web;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.Getter;
+
+/**
+ * Fixed-size concurrency limit with a bounded wait queue.
+ * Callers that find both the permits and the queue exhausted are rejected immediately instead of blocking.
+ */
+public class Bulkhead {
+
+    @Getter
+    private final String name;
+
+    private final Semaphore permits;
+    private final int maxQueued;
+    private final AtomicInteger queued = new AtomicInteger();
+
+    public Bulkhead(String name, int maxConcurrent, int maxQueued) {
+        this.name = name;
+        this.permits = new Semaphore(maxConcurrent, true);
+        this.maxQueued = maxQueued;
+    }
+
+    /**
+     * Tries to take a permit, waiting at most {@code timeout} when the bulkhead is saturated.
+     * @return true if a permit was taken and {@link #release()} must be called.
+     */
+    public boolean tryAcquire(Duration timeout) {
+        if (permits.tryAcquire()) {
+            return true;
+        }
+        if (queued.incrementAndGet() > maxQueued) {
+            queued.decrementAndGet();
+            return false;
+        }
+        try {
+            return permits.tryAcquire(timeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } finally {
+            queued.decrementAndGet();
+        }
+    }
+
+    public void release() {
+        permits.release();
+    }
+
+    public int getQueued() {
+        return queued.get();
+    }
+
+    public int getAvailablePermits() {
+        return permits.availablePermits();
+    }
+}
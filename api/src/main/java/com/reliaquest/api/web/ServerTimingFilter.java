@@ -0,0 +1,41 @@
+package com.reliaquest.api.web;
+
+import com.reliaquest.api.metrics.RequestTimings;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Starts the {@link RequestTimings} for each Employee API request before admission control runs.
+ * Responses with a body get their {@code Server-Timing} header from {@link ServerTimingResponseAdvice}, just
+ * before the body is written; bodiless responses get it here once the handler has finished.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ServerTimingFilter extends OncePerRequestFilter {
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        RequestTimings timings = RequestTimings.start();
+        try {
+            filterChain.doFilter(request, response);
+            if (!response.isCommitted() && !response.containsHeader(RequestTimings.HEADER)) {
+                response.setHeader(RequestTimings.HEADER, timings.toHeaderValue());
+            }
+        } finally {
+            RequestTimings.clear();
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.reliaquest.api.controller;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.web.AdmissionRejectedException;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * Unit test class for EmployeeControllerAdvice.
+ */
+class EmployeeControllerAdviceTest {
+
+    private final EmployeeControllerAdvice advice = new EmployeeControllerAdvice();
+
+    @Test
+    void testRejectionMapsTo503WithRetryAfter() {
+        ResponseEntity<?> response =
+                advice.handleAdmissionRejected(new AdmissionRejectedException("Full.", Duration.ofSeconds(7)));
+
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+        assertEquals("7", response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+    }
+
+    @Test
+    void testSubSecondRetryAfterRoundsUpToOneSecond() {
+        ResponseEntity<?> response =
+                advice.handleAdmissionRejected(new AdmissionRejectedException("Full.", Duration.ofMillis(200)));
+
+        assertEquals("1", response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+    }
+}
@@ -0,0 +1,38 @@
+package com.reliaquest.api.metrics;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit test class for RequestTimings.
+ */
+class RequestTimingsTest {
+
+    @AfterEach
+    void tearDown() {
+        RequestTimings.clear();
+    }
+
+    @Test
+    void testHeaderValueContainsEveryPhase() {
+        RequestTimings timings = RequestTimings.start();
+        RequestTimings.addQueue(TimeUnit.MILLISECONDS.toNanos(1));
+        RequestTimings.addUpstream(TimeUnit.MILLISECONDS.toNanos(20));
+        RequestTimings.addUpstream(TimeUnit.MILLISECONDS.toNanos(5)); // Phases accumulate
+        RequestTimings.addDecode(TimeUnit.MICROSECONDS.toNanos(1500));
+
+        String header = timings.toHeaderValue();
+
+        assertTrue(header.startsWith("queue;dur=1.000, upstream;dur=25.000, decode;dur=1.500, compute;dur="));
+    }
+
+    @Test
+    void testRecordingWithoutRequestIsIgnored() {
+        RequestTimings.addUpstream(TimeUnit.MILLISECONDS.toNanos(20)); // No request is being timed
+
+        assertTrue(RequestTimings.current().isEmpty());
+    }
+}
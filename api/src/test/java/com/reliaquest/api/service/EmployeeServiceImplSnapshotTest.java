@@ -0,0 +1,89 @@
+package com.reliaquest.api.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.web.AdmissionRejectedException;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit test class for the roster snapshot of EmployeeServiceImpl, against a stubbed backend API.
+ */
+class EmployeeServiceImplSnapshotTest {
+
+    private static final List<Employee> ROSTER = List.of(
+            new Employee("1", "John Doe", 50000, 30, "Engineer", "john@example.com"),
+            new Employee("2", "Jane Smith", 60000, 28, "Manager", "jane@example.com"));
+
+    private StubUpstream upstream;
+    private EmployeeServiceImpl employeeService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        upstream = new StubUpstream();
+        employeeService = upstream.newService(Duration.ZERO); // Every read refreshes the snapshot
+    }
+
+    @AfterEach
+    void tearDown() {
+        upstream.close();
+    }
+
+    @Test
+    void testServerErrorKeepsPreviousSnapshot() {
+        upstream.reply("GET", 200, StubUpstream.data(ROSTER)).reply("GET", 500, StubUpstream.error());
+
+        assertEquals(2, employeeService.getAllEmployees().size());
+        List<Employee> afterError = employeeService.getAllEmployees();
+
+        assertEquals(2, upstream.calls("GET").size()); // The refresh was attempted...
+        assertEquals(2, afterError.size()); // ...but the error did not replace the roster
+        assertEquals(60000, employeeService.getHighestSalaryOfEmployees());
+    }
+
+    @Test
+    void testThrottledRefreshServesStaleSnapshot() {
+        upstream.reply("GET", 200, StubUpstream.data(ROSTER))
+                .reply("GET", new StubUpstream.Reply(429, StubUpstream.error(), Map.of("Retry-After", "30")));
+
+        assertEquals(2, employeeService.getAllEmployees().size());
+        assertEquals(2, employeeService.getAllEmployees().size()); // Throttled: the stale roster is served
+        assertEquals(2, employeeService.getAllEmployees().size()); // Backing off: served without asking again
+
+        assertEquals(2, upstream.calls("GET").size());
+    }
+
+    @Test
+    void testThrottledWithoutSnapshotIsRejected() {
+        upstream.reply("GET", new StubUpstream.Reply(429, StubUpstream.error(), Map.of("Retry-After", "30")));
+
+        AdmissionRejectedException rejected =
+                assertThrows(AdmissionRejectedException.class, () -> employeeService.getAllEmployees());
+        assertEquals(Duration.ofSeconds(30), rejected.getRetryAfter());
+    }
+
+    @Test
+    void testWarmOnlyAfterSuccessfulFetch() {
+        upstream.reply("GET", 500, StubUpstream.error()).reply("GET", 200, StubUpstream.data(ROSTER));
+
+        employeeService.getAllEmployees();
+        assertFalse(employeeService.isWarm()); // The failed fetch does not open the readiness gate
+
+        employeeService.getAllEmployees();
+        assertTrue(employeeService.isWarm());
+    }
+
+    @Test
+    void testServerErrorWithoutSnapshotServesNothing() {
+        upstream.reply("GET", 500, StubUpstream.error());
+
+        assertTrue(employeeService.getAllEmployees().isEmpty());
+        assertFalse(employeeService.isWarm());
+    }
+}
@@ -0,0 +1,179 @@
+package com.reliaquest.api.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.model.Employee;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit test class for creates and deletes in EmployeeServiceImpl, against a stubbed backend API.
+ */
+class EmployeeServiceImplWritesTest {
+
+    private static final List<Employee> ROSTER = List.of(
+            new Employee("1", "John Doe", 50000, 30, "Engineer", "john@example.com"),
+            new Employee("2", "Jane Smith", 60000, 28, "Manager", "jane@example.com"));
+    private static final Employee CREATED =
+            new Employee("3", "Alice Brown", 90000, 32, "Director", "alice@example.com");
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private StubUpstream upstream;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        upstream = new StubUpstream();
+    }
+
+    @AfterEach
+    void tearDown() {
+        upstream.close();
+    }
+
+    @Test
+    void testCreateSendsPlainAttributes() throws IOException {
+        upstream.reply("POST", 200, StubUpstream.data(CREATED));
+        EmployeeServiceImpl employeeService = upstream.newService(Duration.ofMinutes(5));
+
+        Employee created =
+                employeeService.createEmployee(new Employee(null, "Alice Brown", 90000, 32, "Director", null));
+
+        assertEquals("3", created.getId());
+        StubUpstream.Call call = upstream.calls("POST").get(0);
+        assertEquals("/api/v1/employee", call.path());
+        assertEquals(
+                Map.of("name", "Alice Brown", "salary", 90000, "age", 32, "title", "Director"),
+                objectMapper.readValue(call.body(), Map.class));
+    }
+
+    @Test
+    void testCreateIsReadableImmediately() {
+        upstream.reply("GET", 200, StubUpstream.data(ROSTER)).reply("POST", 200, StubUpstream.data(CREATED));
+        EmployeeServiceImpl employeeService = upstream.newService(Duration.ofMinutes(5));
+        employeeService.getAllEmployees();
+
+        employeeService.createEmployee(new Employee(null, "Alice Brown", 90000, 32, "Director", null));
+
+        assertEquals(3, employeeService.getAllEmployees().size());
+        assertEquals("Alice Brown", employeeService.getEmployeeById("3").getName());
+        assertEquals(1, employeeService.getEmployeesByNameSearch("alice").size());
+        assertEquals(90000, employeeService.getHighestSalaryOfEmployees());
+        assertEquals(
+                "Alice Brown",
+                employeeService.getTopTenHighestEarningEmployeeNames().get(0));
+        assertEquals(1, upstream.calls("GET").size()); // Served without fetching the roster again
+    }
+
+    @Test
+    void testDeleteSendsNameAndIsReadableImmediately() throws IOException {
+        upstream.reply("GET", 200, StubUpstream.data(ROSTER)).reply("DELETE", 200, StubUpstream.data(true));
+        EmployeeServiceImpl employeeService = upstream.newService(Duration.ofMinutes(5));
+        employeeService.getAllEmployees();
+
+        assertEquals("Employee deleted successfully.", employeeService.deleteEmployeeById("2"));
+
+        StubUpstream.Call call = upstream.calls("DELETE").get(0);
+        assertEquals("/api/v1/employee", call.path());
+        assertEquals(Map.of("name", "Jane Smith"), objectMapper.readValue(call.body(), Map.class));
+        assertEquals(List.of("John Doe"), names(employeeService.getAllEmployees()));
+        assertEquals(50000, employeeService.getHighestSalaryOfEmployees());
+        assertEquals(1, upstream.calls("GET").size());
+    }
+
+    @Test
+    void testDeleteDoesNotRefreshExpiredRoster() throws IOException {
+        upstream.reply("GET", 200, StubUpstream.data(ROSTER)).reply("DELETE", 200, StubUpstream.data(true));
+        EmployeeServiceImpl employeeService = upstream.newService(Duration.ZERO); // Always expired
+        employeeService.getAllEmployees();
+
+        assertEquals("Employee deleted successfully.", employeeService.deleteEmployeeById("2"));
+
+        assertEquals(1, upstream.calls("GET").size()); // Only the roster fetch before the delete
+        assertEquals(
+                Map.of("name", "Jane Smith"),
+                objectMapper.readValue(upstream.calls("DELETE").get(0).body(), Map.class));
+    }
+
+    @Test
+    void testDeleteOutsideRosterFetchesOnlyThatEmployee() {
+        upstream.reply("GET", 200, StubUpstream.data(CREATED)).reply("DELETE", 200, StubUpstream.data(true));
+        EmployeeServiceImpl employeeService = upstream.newService(Duration.ZERO);
+
+        assertEquals("Employee deleted successfully.", employeeService.deleteEmployeeById("3"));
+
+        assertEquals(
+                List.of("/api/v1/employee/3"),
+                upstream.calls("GET").stream().map(StubUpstream.Call::path).toList());
+    }
+
+    @Test
+    void testDeleteFailsUnlessBackendAnswersTrue() {
+        upstream.reply("GET", 200, StubUpstream.data(ROSTER)).reply("DELETE", 200, StubUpstream.data(false));
+        EmployeeServiceImpl employeeService = upstream.newService(Duration.ofMinutes(5));
+        employeeService.getAllEmployees();
+
+        assertEquals("Failed to delete employee.", employeeService.deleteEmployeeById("2"));
+        assertEquals(2, employeeService.getAllEmployees().size()); // No tombstone for an unconfirmed delete
+    }
+
+    @Test
+    void testDeleteRefusedWhenNameIsShared() {
+        List<Employee> roster = new ArrayList<>(ROSTER);
+        roster.add(new Employee("3", "JANE SMITH", 70000, 41, "Director", null));
+        upstream.reply("GET", 200, StubUpstream.data(roster)).reply("DELETE", 200, StubUpstream.data(true));
+        EmployeeServiceImpl employeeService = upstream.newService(Duration.ofMinutes(5));
+        employeeService.getAllEmployees();
+
+        assertEquals("Failed to delete employee.", employeeService.deleteEmployeeById("2"));
+        assertTrue(upstream.calls("DELETE").isEmpty()); // The backend API could have deleted the other one
+        assertEquals(3, employeeService.getAllEmployees().size());
+    }
+
+    @Test
+    void testRefreshAfterWriteIsAuthoritative() {
+        Employee serverCopy = new Employee("3", "Alice Brown", 95000, 32, "Director", "alice@example.com");
+        List<Employee> withCreated = new ArrayList<>(ROSTER);
+        withCreated.add(serverCopy);
+        upstream.reply("GET", 200, StubUpstream.data(ROSTER))
+                .reply("GET", 200, StubUpstream.data(withCreated))
+                .reply("GET", 200, StubUpstream.data(ROSTER))
+                .reply("POST", 200, StubUpstream.data(CREATED));
+        EmployeeServiceImpl employeeService = upstream.newService(Duration.ZERO); // Every read refreshes
+        employeeService.getAllEmployees();
+        employeeService.createEmployee(new Employee(null, "Alice Brown", 90000, 32, "Director", null));
+
+        // Fetched after the create was confirmed, so the backend API's copy replaces the overlay
+        assertEquals(95000, employeeService.getHighestSalaryOfEmployees());
+        // Dropped once reconciled, so the overlay does not bring back an employee the backend API no longer has
+        assertEquals(List.of("John Doe", "Jane Smith"), names(employeeService.getAllEmployees()));
+    }
+
+    @Test
+    void testWriteDuringRefreshIsReapplied() throws Exception {
+        upstream.reply("GET", 200, StubUpstream.data(ROSTER)).reply("POST", 200, StubUpstream.data(CREATED));
+        EmployeeServiceImpl employeeService = upstream.newService(Duration.ZERO);
+        employeeService.getAllEmployees();
+
+        StubUpstream.Hold refresh = upstream.hold("GET");
+        CompletableFuture<List<Employee>> refreshed = CompletableFuture.supplyAsync(employeeService::getAllEmployees);
+        assertTrue(refresh.arrived().await(5, TimeUnit.SECONDS));
+        employeeService.createEmployee(new Employee(null, "Alice Brown", 90000, 32, "Director", null));
+        refresh.release().countDown(); // Answers with a roster read before the create
+
+        // Confirmed after the refresh was sent, so the overlay is applied on top of the refreshed roster
+        assertEquals(List.of("John Doe", "Jane Smith", "Alice Brown"), names(refreshed.get(5, TimeUnit.SECONDS)));
+    }
+
+    private static List<String> names(List<Employee> employees) {
+        return employees.stream().map(Employee::getName).toList();
+    }
+}
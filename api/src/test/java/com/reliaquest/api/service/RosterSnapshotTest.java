@@ -0,0 +1,84 @@
+package com.reliaquest.api.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.model.Employee;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit test class for RosterSnapshot overlays.
+ */
+class RosterSnapshotTest {
+
+    private final RosterSnapshot roster = RosterSnapshot.of(
+            List.of(
+                    new Employee("1", "John Doe", 50000, 30, "Engineer", "john@example.com"),
+                    new Employee("2", "Jane Smith", 60000, 28, "Manager", "jane@example.com"),
+                    new Employee("3", "Bob Johnson", 55000, 35, "Developer", "bob@example.com")),
+            Instant.EPOCH);
+
+    @Test
+    void testUpsertIsVisibleToEveryReader() {
+        Employee created = new Employee("4", "Alice Brown", 55000, 32, "Director", "alice@example.com");
+
+        RosterSnapshot updated = roster.apply(RosterOverlay.upsert(1, created));
+
+        assertEquals(4, updated.employees().size());
+        assertSame(created, updated.employee("4"));
+        assertEquals(
+                List.of("Jane Smith", "Bob Johnson", "Alice Brown", "John Doe"), // After the equal salary
+                names(updated.topBySalary(10)));
+        assertEquals(Instant.EPOCH, updated.fetchedAt()); // Writes do not make the snapshot fresher
+        assertEquals(3, roster.employees().size()); // The original snapshot is untouched
+    }
+
+    @Test
+    void testTombstoneHidesFromEveryReader() {
+        RosterSnapshot updated = roster.apply(RosterOverlay.tombstone(1, "2"));
+
+        assertEquals(2, updated.employees().size());
+        assertNull(updated.employee("2"));
+        assertEquals(List.of("Bob Johnson", "John Doe"), names(updated.topBySalary(10)));
+    }
+
+    @Test
+    void testUpsertReplacesBaseEmployee() {
+        RosterSnapshot updated =
+                roster.apply(RosterOverlay.upsert(1, new Employee("2", "Jane Smith", 40000, 28, "Manager", null)));
+
+        assertEquals(3, updated.employees().size());
+        assertEquals(40000, updated.employee("2").getSalary());
+        assertEquals(List.of("Bob Johnson", "John Doe"), names(updated.topBySalary(2)));
+        assertEquals(List.of("Bob Johnson", "John Doe", "Jane Smith"), names(updated.topBySalary(10)));
+    }
+
+    @Test
+    void testLaterOverlayForSameIdWins() {
+        Employee created = new Employee("4", "Alice Brown", 90000, 32, "Director", null);
+
+        RosterSnapshot updated =
+                roster.applyAll(List.of(RosterOverlay.upsert(1, created), RosterOverlay.tombstone(2, "4")));
+
+        assertNull(updated.employee("4"));
+        assertEquals(3, updated.employees().size());
+        assertEquals("Jane Smith", updated.topBySalary(1).get(0).getName());
+    }
+
+    @Test
+    void testReapplyingOverlayIsIdempotent() {
+        RosterOverlay raise = RosterOverlay.upsert(1, new Employee("1", "John Doe", 70000, 30, "Engineer", null));
+
+        RosterSnapshot once = roster.apply(raise);
+        RosterSnapshot twice = once.apply(raise);
+
+        assertEquals(once.employees(), twice.employees());
+        assertEquals(once.topBySalary(10), twice.topBySalary(10));
+        assertEquals("John Doe", twice.topBySalary(1).get(0).getName());
+    }
+
+    private static List<String> names(List<Employee> employees) {
+        return employees.stream().map(Employee::getName).toList();
+    }
+}
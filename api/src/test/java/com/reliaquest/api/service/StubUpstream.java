@@ -0,0 +1,157 @@
+package com.reliaquest.api.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.config.AdmissionProperties;
+import com.reliaquest.api.metrics.EmployeeApiMetrics;
+import com.reliaquest.api.web.AdaptiveConcurrencyLimit;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Stand-in for the backend API in service tests. Answers each request with the next reply queued for its method
+ * (the last one repeats) and records every request it receives.
+ */
+class StubUpstream implements AutoCloseable {
+
+    record Call(String method, String path, String body) {}
+
+    record Reply(int status, String body, Map<String, String> headers) {}
+
+    /**
+     * A request held back from its reply: {@code arrived} opens once it is received, and it is answered once
+     * {@code release} is opened.
+     */
+    record Hold(CountDownLatch arrived, CountDownLatch release) {}
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final HttpServer server;
+    private final Map<String, Deque<Reply>> replies = new ConcurrentHashMap<>();
+    private final List<Call> calls = new CopyOnWriteArrayList<>();
+    private final Map<String, Hold> holds = new ConcurrentHashMap<>();
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    StubUpstream() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", this::handle);
+        server.setExecutor(executor); // A held request must not keep the others from being answered
+        server.start();
+    }
+
+    String baseUrl() {
+        return "http://localhost:%d/api/v1/employee"
+                .formatted(server.getAddress().getPort());
+    }
+
+    EmployeeServiceImpl newService(Duration rosterTtl) {
+        final var admission = new AdmissionProperties();
+        return new EmployeeServiceImpl(
+                new AdaptiveConcurrencyLimit(admission.getAdaptive()),
+                new EmployeeApiMetrics(new SimpleMeterRegistry()),
+                admission,
+                baseUrl(),
+                rosterTtl,
+                Duration.ofSeconds(2));
+    }
+
+    StubUpstream reply(String method, int status, String body) {
+        return reply(method, new Reply(status, body, Map.of()));
+    }
+
+    StubUpstream reply(String method, Reply reply) {
+        replies.computeIfAbsent(method, key -> new ArrayDeque<>()).add(reply);
+        return this;
+    }
+
+    /**
+     * Holds the next request for {@code method} until the returned hold is released.
+     */
+    Hold hold(String method) {
+        final var hold = new Hold(new CountDownLatch(1), new CountDownLatch(1));
+        holds.put(method, hold);
+        return hold;
+    }
+
+    List<Call> calls(String method) {
+        return calls.stream().filter(call -> call.method().equals(method)).toList();
+    }
+
+    /**
+     * A successful backend API response body wrapping {@code data}.
+     */
+    static String data(Object data) {
+        final var response = new LinkedHashMap<String, Object>();
+        response.put("data", data);
+        response.put("status", "Successfully processed request.");
+        try {
+            return OBJECT_MAPPER.writeValueAsString(response);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    static String error() {
+        return "{\"status\":\"Failed to process request.\",\"error\":\"Injected fault.\"}";
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        final var method = exchange.getRequestMethod();
+        calls.add(new Call(
+                method,
+                exchange.getRequestURI().getPath(),
+                new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8)));
+
+        Hold hold = holds.remove(method);
+        if (hold != null) {
+            hold.arrived().countDown();
+            try {
+                hold.release().await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        final Reply reply;
+        synchronized (replies) {
+            Deque<Reply> queued = replies.getOrDefault(method, new ArrayDeque<>());
+            reply = queued.size() > 1 ? queued.poll() : queued.peek();
+        }
+        if (reply == null) {
+            exchange.sendResponseHeaders(404, -1);
+            exchange.close();
+            return;
+        }
+
+        byte[] body = reply.body().getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        reply.headers().forEach(exchange.getResponseHeaders()::set);
+        exchange.sendResponseHeaders(reply.status(), body.length == 0 ? -1 : body.length);
+        try (var out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    @Override
+    public void close() {
+        holds.values().forEach(hold -> hold.release().countDown());
+        server.stop(0);
+        executor.shutdownNow();
+    }
+}
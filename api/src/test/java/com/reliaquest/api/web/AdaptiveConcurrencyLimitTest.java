@@ -0,0 +1,100 @@
+package com.reliaquest.api.web;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.config.AdmissionProperties;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit test class for AdaptiveConcurrencyLimit.
+ */
+class AdaptiveConcurrencyLimitTest {
+
+    private AdmissionProperties.Adaptive settings;
+
+    @BeforeEach
+    void setUp() {
+        settings = new AdmissionProperties.Adaptive();
+        settings.setInitialLimit(4);
+        settings.setMinLimit(1);
+        settings.setMaxLimit(16);
+    }
+
+    @Test
+    void testRejectsCallsBeyondLimit() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(settings);
+
+        List<AdaptiveConcurrencyLimit.Listener> admitted = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            admitted.add(limit.tryAcquire());
+        }
+
+        assertTrue(admitted.stream().allMatch(listener -> listener != null));
+        assertNull(limit.tryAcquire()); // The fifth concurrent call is rejected
+
+        admitted.get(0).onIgnore();
+        assertNotNull(limit.tryAcquire()); // Releasing a slot admits the next call
+    }
+
+    @Test
+    void testBacksOffWhenDropped() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(settings);
+
+        for (int i = 0; i < 20; i++) {
+            limit.tryAcquire().onDropped();
+        }
+
+        assertEquals(1, limit.getLimit()); // Never drops below the configured minimum
+        assertEquals(0, limit.getInFlight());
+    }
+
+    @Test
+    void testGrowsWhileLatencyIsStable() {
+        AtomicLong clock = new AtomicLong();
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(settings, clock::get);
+
+        for (int round = 0; round < 50; round++) {
+            List<AdaptiveConcurrencyLimit.Listener> batch = new ArrayList<>();
+            AdaptiveConcurrencyLimit.Listener listener;
+            while ((listener = limit.tryAcquire()) != null) {
+                batch.add(listener);
+            }
+            clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(2)); // A steady upstream round trip
+            batch.forEach(AdaptiveConcurrencyLimit.Listener::onSuccess);
+        }
+
+        assertTrue(limit.getLimit() > 4, "Limit should grow while the upstream keeps up.");
+        assertTrue(limit.getLimit() <= 16, "Limit should respect the configured maximum.");
+    }
+
+    @Test
+    void testShrinksWhenLatencyRises() {
+        AtomicLong clock = new AtomicLong();
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(settings, clock::get);
+        for (int round = 0; round < 20; round++) {
+            runBatch(limit, clock, 2);
+        }
+        int grown = limit.getLimit();
+
+        for (int round = 0; round < 20; round++) {
+            runBatch(limit, clock, 20); // The upstream starts queueing
+        }
+
+        assertTrue(limit.getLimit() < grown, "Limit should shrink once latency rises above the baseline.");
+    }
+
+    private static void runBatch(AdaptiveConcurrencyLimit limit, AtomicLong clock, long rttMillis) {
+        List<AdaptiveConcurrencyLimit.Listener> batch = new ArrayList<>();
+        AdaptiveConcurrencyLimit.Listener listener;
+        while ((listener = limit.tryAcquire()) != null) {
+            batch.add(listener);
+        }
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(rttMillis));
+        batch.forEach(AdaptiveConcurrencyLimit.Listener::onSuccess);
+    }
+}
@@ -0,0 +1,65 @@
+package com.reliaquest.api.web;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.config.AdmissionProperties;
+import com.reliaquest.api.metrics.EmployeeApiMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+/**
+ * Unit test class for AdmissionControlInterceptor.
+ */
+class AdmissionControlInterceptorTest {
+
+    private AdmissionControlInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        AdmissionProperties properties = new AdmissionProperties();
+        properties.setCachedRead(new AdmissionProperties.Route(1, 0));
+        properties.setUpstream(new AdmissionProperties.Route(1, 0));
+        properties.setQueueTimeout(Duration.ofMillis(10));
+        properties.setRetryAfter(Duration.ofSeconds(3));
+        interceptor = new AdmissionControlInterceptor(properties, new EmployeeApiMetrics(new SimpleMeterRegistry()));
+    }
+
+    @Test
+    void testShedsWith503AndRetryAfterWhenFull() {
+        MockHttpServletRequest first = new MockHttpServletRequest("GET", "/api/employees");
+        assertTrue(interceptor.preHandle(first, new MockHttpServletResponse(), null));
+
+        MockHttpServletResponse rejected = new MockHttpServletResponse();
+        assertFalse(interceptor.preHandle(new MockHttpServletRequest("GET", "/api/employees"), rejected, null));
+
+        assertEquals(503, rejected.getStatus());
+        assertEquals("3", rejected.getHeader(HttpHeaders.RETRY_AFTER));
+    }
+
+    @Test
+    void testCompletionReleasesPermit() {
+        MockHttpServletRequest first = new MockHttpServletRequest("GET", "/api/employees");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        assertTrue(interceptor.preHandle(first, response, null));
+
+        interceptor.afterCompletion(first, response, null, null);
+
+        assertTrue(interceptor.preHandle(
+                new MockHttpServletRequest("GET", "/api/employees"), new MockHttpServletResponse(), null));
+    }
+
+    @Test
+    void testReadsAndWritesAreLimitedSeparately() {
+        assertTrue(interceptor.preHandle(
+                new MockHttpServletRequest("GET", "/api/employees"), new MockHttpServletResponse(), null));
+
+        // The read holds the only cached-read permit, but writes have their own bulkhead
+        assertTrue(interceptor.preHandle(
+                new MockHttpServletRequest("POST", "/api/employees"), new MockHttpServletResponse(), null));
+    }
+}
@@ -0,0 +1,52 @@
+package com.reliaquest.api.web;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit test class for Bulkhead.
+ */
+class BulkheadTest {
+
+    @Test
+    void testRejectsWhenQueueIsFull() {
+        Bulkhead bulkhead = new Bulkhead("test", 1, 0);
+
+        assertTrue(bulkhead.tryAcquire(Duration.ofMillis(10)));
+        assertFalse(bulkhead.tryAcquire(Duration.ofMillis(10))); // No permit and no queue space
+
+        bulkhead.release();
+        assertTrue(bulkhead.tryAcquire(Duration.ofMillis(10)));
+    }
+
+    @Test
+    void testQueuedCallerGetsReleasedPermit() throws Exception {
+        Bulkhead bulkhead = new Bulkhead("test", 1, 1);
+        assertTrue(bulkhead.tryAcquire(Duration.ZERO));
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            CountDownLatch started = new CountDownLatch(1);
+            Future<Boolean> queued = executor.submit(() -> {
+                started.countDown();
+                return bulkhead.tryAcquire(Duration.ofSeconds(5));
+            });
+            started.await();
+            while (bulkhead.getQueued() == 0 && !queued.isDone()) {
+                Thread.onSpinWait();
+            }
+            bulkhead.release();
+
+            assertTrue(queued.get(5, TimeUnit.SECONDS)); // Waited in the queue for the released permit
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
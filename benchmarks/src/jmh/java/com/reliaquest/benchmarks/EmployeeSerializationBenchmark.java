@@ -0,0 +1,85 @@
+package com.reliaquest.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.reliaquest.api.model.Employee;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Jackson (de)serialization of {@link Employee}, singly and as the list the API returns.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EmployeeSerializationBenchmark {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private ObjectWriter employeeWriter;
+    private ObjectReader employeeReader;
+    private Employee employee;
+    private byte[] employeeJson;
+
+    @Setup
+    public void setUp() throws IOException {
+        employee = Rosters.generate(1).get(0);
+        employeeJson = objectMapper.writeValueAsBytes(employee);
+        employeeWriter = objectMapper.writerFor(Employee.class);
+        employeeReader = objectMapper.readerFor(Employee.class);
+    }
+
+    @Benchmark
+    public byte[] serializeWithMapper() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(employee);
+    }
+
+    @Benchmark
+    public byte[] serializeWithWriter() throws JsonProcessingException {
+        return employeeWriter.writeValueAsBytes(employee);
+    }
+
+    @Benchmark
+    public Employee deserializeWithMapper() throws IOException {
+        return objectMapper.readValue(employeeJson, Employee.class);
+    }
+
+    @Benchmark
+    public Employee deserializeWithReader() throws IOException {
+        return employeeReader.readValue(employeeJson);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public byte[] serializeRoster(RosterState state) throws JsonProcessingException {
+        return state.rosterWriter.writeValueAsBytes(state.employees);
+    }
+
+    @State(Scope.Benchmark)
+    public static class RosterState {
+
+        @Param({"50", "1000", "100000", "1000000"})
+        public int size;
+
+        private List<Employee> employees;
+        private ObjectWriter rosterWriter;
+
+        @Setup
+        public void setUp() {
+            employees = Rosters.generate(size);
+            ObjectMapper objectMapper = new ObjectMapper();
+            rosterWriter = objectMapper.writerFor(
+                    objectMapper.getTypeFactory().constructCollectionType(List.class, Employee.class));
+        }
+    }
+}
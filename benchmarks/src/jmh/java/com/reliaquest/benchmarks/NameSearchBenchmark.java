@@ -0,0 +1,66 @@
+package com.reliaquest.benchmarks;
+
+import com.reliaquest.api.model.Employee;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * {@code getEmployeesByNameSearch}: linear scan vs trigram index.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class NameSearchBenchmark {
+
+    @Param({"50", "1000", "100000", "1000000"})
+    public int size;
+
+    /**
+     * A short fragment that falls back to scanning, a common one, a selective one and one with no match.
+     */
+    @Param({"an", "son", "christopher", "xyz"})
+    public String query;
+
+    private List<Employee> employees;
+    private TrigramIndex index;
+
+    @Setup
+    public void setUp() {
+        employees = Rosters.generate(size);
+        index = new TrigramIndex(employees);
+    }
+
+    /**
+     * As done in EmployeeServiceImpl: lower-case and test every name on every request.
+     */
+    @Benchmark
+    public List<Employee> scan() {
+        String needle = query.toLowerCase();
+        return employees.stream()
+                .filter(emp -> Objects.nonNull(emp.getName())
+                        && emp.getName().toLowerCase().contains(needle))
+                .toList();
+    }
+
+    @Benchmark
+    public List<Employee> ngramIndex() {
+        return index.search(query);
+    }
+
+    /**
+     * What the index costs to build, paid once per roster refresh.
+     */
+    @Benchmark
+    public TrigramIndex ngramIndexBuild() {
+        return new TrigramIndex(employees);
+    }
+}
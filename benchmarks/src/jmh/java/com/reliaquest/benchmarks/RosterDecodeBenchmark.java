@@ -0,0 +1,79 @@
+package com.reliaquest.benchmarks;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.reliaquest.api.model.Employee;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Decoding a full {@code GET /api/v1/employee} response into employees.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RosterDecodeBenchmark {
+
+    @Param({"50", "1000", "100000", "1000000"})
+    public int size;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private JavaType employeeList;
+    private ObjectReader employeeReader;
+    private byte[] payload;
+
+    @Setup
+    public void setUp() throws IOException {
+        payload = Rosters.responseJson(Rosters.generate(size), objectMapper);
+        employeeList = objectMapper.getTypeFactory().constructCollectionType(List.class, Employee.class);
+        employeeReader = objectMapper.readerFor(Employee.class);
+    }
+
+    /**
+     * As done in EmployeeServiceImpl: bind the whole response to a Map, then convert its data field.
+     */
+    @Benchmark
+    public List<Employee> mapThenConvert() throws IOException {
+        Map<String, Object> responseMap = objectMapper.readValue(payload, Map.class);
+        return objectMapper.convertValue(responseMap.get("data"), employeeList);
+    }
+
+    /**
+     * Streams to the data array and binds each element directly, without an intermediate Map.
+     */
+    @Benchmark
+    public List<Employee> streaming() throws IOException {
+        List<Employee> employees = new ArrayList<>();
+        try (JsonParser parser = objectMapper.createParser(payload)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return employees;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if ("data".equals(field) && value == JsonToken.START_ARRAY) {
+                    while (parser.nextToken() == JsonToken.START_OBJECT) {
+                        employees.add(employeeReader.readValue(parser));
+                    }
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+        return employees;
+    }
+}
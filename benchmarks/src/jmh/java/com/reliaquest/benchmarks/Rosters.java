@@ -0,0 +1,114 @@
+package com.reliaquest.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.model.Employee;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * Deterministic roster fixtures shaped like the mock server's data.
+ */
+final class Rosters {
+
+    private static final long SEED = 42L;
+
+    private static final String[] FIRST_NAMES = {
+        "Alice",
+        "Bob",
+        "Charlie",
+        "Diana",
+        "Eve",
+        "Frank",
+        "Grace",
+        "Hank",
+        "Ivy",
+        "John",
+        "Karen",
+        "Liam",
+        "Maria",
+        "Nathan",
+        "Olivia",
+        "Peter",
+        "Quinn",
+        "Rachel",
+        "Samuel",
+        "Tina",
+        "Ursula",
+        "Victor",
+        "Wendy",
+        "Xavier",
+        "Yvonne",
+        "Zachary",
+        "Christopher",
+        "Annabelle",
+        "Jonathan",
+        "Stephanie"
+    };
+
+    private static final String[] LAST_NAMES = {
+        "Anderson",
+        "Brown",
+        "Clark",
+        "Davis",
+        "Evans",
+        "Foster",
+        "Garcia",
+        "Harris",
+        "Jackson",
+        "Johnson",
+        "King",
+        "Lewis",
+        "Martin",
+        "Nelson",
+        "Ortiz",
+        "Parker",
+        "Robinson",
+        "Smith",
+        "Thompson",
+        "Underwood",
+        "Vasquez",
+        "Walker",
+        "Young",
+        "Zimmerman",
+        "Nixon",
+        "Jenkins",
+        "Peterson",
+        "Richardson",
+        "Henderson",
+        "Sanders"
+    };
+
+    private static final String[] TITLES = {
+        "Engineer", "Manager", "Developer", "Director", "Analyst", "Consultant", "Architect", "Scientist"
+    };
+
+    private Rosters() {}
+
+    static List<Employee> generate(int size) {
+        Random random = new Random(SEED);
+        List<Employee> employees = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            String first = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+            String last = LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+            employees.add(new Employee(
+                    new UUID(random.nextLong(), random.nextLong()).toString(),
+                    first + " " + last,
+                    random.nextInt(30000, 500000),
+                    random.nextInt(16, 70),
+                    TITLES[random.nextInt(TITLES.length)],
+                    (first.charAt(0) + last + i).toLowerCase() + "@company.com"));
+        }
+        return employees;
+    }
+
+    /**
+     * Serializes the roster the way the mock server answers {@code GET /api/v1/employee}.
+     */
+    static byte[] responseJson(List<Employee> employees, ObjectMapper objectMapper) throws IOException {
+        return objectMapper.writeValueAsBytes(Map.of("data", employees, "status", "Successfully processed request."));
+    }
+}
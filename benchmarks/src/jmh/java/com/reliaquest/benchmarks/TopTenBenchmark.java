@@ -0,0 +1,119 @@
+package com.reliaquest.benchmarks;
+
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.service.RosterOverlay;
+import com.reliaquest.api.service.RosterSnapshot;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * {@code getTopTenHighestEarningEmployeeNames}: full sort vs bounded heap vs the roster snapshot's salary index.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TopTenBenchmark {
+
+    private static final int TOP = 10;
+    private static final int PENDING_WRITES = 16;
+    private static final Comparator<Employee> BY_SALARY = Comparator.comparing(Employee::getSalary);
+
+    @Param({"50", "1000", "100000", "1000000"})
+    public int size;
+
+    private List<Employee> employees;
+    private RosterSnapshot snapshot;
+    private RosterSnapshot snapshotWithWrites;
+
+    @Setup
+    public void setUp() {
+        employees = Rosters.generate(size);
+        snapshot = RosterSnapshot.of(employees, Instant.now());
+
+        // Writes confirmed since the last refresh: raises that move employees to the top, and deletes
+        final var writes = new ArrayList<RosterOverlay>();
+        for (int i = 0; i < PENDING_WRITES; i++) {
+            Employee employee = employees.get(i);
+            writes.add(
+                    i % 2 == 0
+                            ? RosterOverlay.tombstone(i + 1, employee.getId())
+                            : RosterOverlay.upsert(
+                                    i + 1,
+                                    new Employee(
+                                            employee.getId(),
+                                            employee.getName(),
+                                            employee.getSalary() * 10,
+                                            employee.getAge(),
+                                            employee.getTitle(),
+                                            employee.getEmail())));
+        }
+        snapshotWithWrites = snapshot.applyAll(writes);
+    }
+
+    /**
+     * The original implementation: sort the whole roster on every request.
+     */
+    @Benchmark
+    public List<String> sort() {
+        return employees.stream()
+                .sorted((a, b) -> Integer.compare(b.getSalary(), a.getSalary()))
+                .limit(TOP)
+                .map(Employee::getName)
+                .toList();
+    }
+
+    /**
+     * Single pass keeping the ten highest salaries in a min-heap.
+     */
+    @Benchmark
+    public List<String> heap() {
+        PriorityQueue<Employee> heap = new PriorityQueue<>(TOP + 1, BY_SALARY);
+        for (Employee employee : employees) {
+            heap.offer(employee);
+            if (heap.size() > TOP) {
+                heap.poll();
+            }
+        }
+        List<Employee> top = new ArrayList<>(heap);
+        top.sort(BY_SALARY.reversed());
+        return top.stream().map(Employee::getName).toList();
+    }
+
+    /**
+     * Read from the salary index the roster snapshot builds once per refresh.
+     */
+    @Benchmark
+    public List<String> index() {
+        return snapshot.topBySalary(TOP).stream().map(Employee::getName).toList();
+    }
+
+    /**
+     * The salary index merged with the writes confirmed since the last refresh.
+     */
+    @Benchmark
+    public List<String> indexWithWrites() {
+        return snapshotWithWrites.topBySalary(TOP).stream()
+                .map(Employee::getName)
+                .toList();
+    }
+
+    /**
+     * What the index costs to build, paid once per roster refresh.
+     */
+    @Benchmark
+    public RosterSnapshot indexBuild() {
+        return RosterSnapshot.of(employees, Instant.EPOCH);
+    }
+}
@@ -0,0 +1,97 @@
+package com.reliaquest.benchmarks;
+
+import com.reliaquest.api.model.Employee;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Candidate name index for {@code getEmployeesByNameSearch}: case-insensitive trigram postings.
+ * A query is answered by scanning only the postings of its rarest trigram and verifying each candidate.
+ */
+final class TrigramIndex {
+
+    private final List<Employee> employees;
+    private final String[] lowerNames;
+    private final Map<Long, int[]> postings;
+
+    TrigramIndex(List<Employee> employees) {
+        this.employees = employees;
+        this.lowerNames = new String[employees.size()];
+        Map<Long, Postings> building = new HashMap<>();
+        for (int i = 0; i < lowerNames.length; i++) {
+            String name = employees.get(i).getName();
+            lowerNames[i] = name == null ? "" : name.toLowerCase();
+            for (int j = 0; j + 3 <= lowerNames[i].length(); j++) {
+                building.computeIfAbsent(key(lowerNames[i], j), ignored -> new Postings())
+                        .add(i);
+            }
+        }
+        this.postings = new HashMap<>(building.size() * 2);
+        building.forEach((key, value) -> postings.put(key, value.toArray()));
+    }
+
+    List<Employee> search(String query) {
+        String needle = query.toLowerCase();
+        if (needle.length() < 3) {
+            return scan(needle);
+        }
+
+        int[] rarest = null;
+        for (int j = 0; j + 3 <= needle.length(); j++) {
+            int[] candidates = postings.get(key(needle, j));
+            if (candidates == null) {
+                return List.of();
+            }
+            if (rarest == null || candidates.length < rarest.length) {
+                rarest = candidates;
+            }
+        }
+
+        List<Employee> matches = new ArrayList<>();
+        for (int position : rarest) {
+            if (lowerNames[position].contains(needle)) {
+                matches.add(employees.get(position));
+            }
+        }
+        return matches;
+    }
+
+    private List<Employee> scan(String needle) {
+        List<Employee> matches = new ArrayList<>();
+        for (int i = 0; i < lowerNames.length; i++) {
+            if (lowerNames[i].contains(needle)) {
+                matches.add(employees.get(i));
+            }
+        }
+        return matches;
+    }
+
+    private static long key(String text, int offset) {
+        return ((long) text.charAt(offset) << 32) | ((long) text.charAt(offset + 1) << 16) | text.charAt(offset + 2);
+    }
+
+    /**
+     * Growable, de-duplicated list of roster positions for one trigram.
+     */
+    private static final class Postings {
+        private int[] positions = new int[4];
+        private int size;
+
+        void add(int position) {
+            if (size > 0 && positions[size - 1] == position) {
+                return;
+            }
+            if (size == positions.length) {
+                positions = Arrays.copyOf(positions, size * 2);
+            }
+            positions[size++] = position;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(positions, size);
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.reliaquest.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Issues the requests of each {@link Operation} against the Employee API.
+ */
+@Slf4j
+public class EmployeeApiClient {
+
+    /**
+     * Status recorded when no HTTP response was received at all.
+     */
+    public static final int NO_RESPONSE = -1;
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    private final String baseUrl;
+    private final HttpClient httpClient =
+            HttpClient.newBuilder().connectTimeout(TIMEOUT).build();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final List<String> knownIds = new ArrayList<>();
+    private final List<String> nameFragments = new ArrayList<>();
+    private final ConcurrentLinkedQueue<String> createdIds = new ConcurrentLinkedQueue<>();
+
+    public EmployeeApiClient(String baseUrl) {
+        this.baseUrl = baseUrl;
+    }
+
+    /**
+     * Loads the current roster once, so reads and searches target employees that exist.
+     */
+    public void discover() throws IOException, InterruptedException {
+        HttpResponse<String> response = httpClient.send(
+                HttpRequest.newBuilder(URI.create(baseUrl))
+                        .timeout(TIMEOUT)
+                        .GET()
+                        .build(),
+                HttpResponse.BodyHandlers.ofString());
+        for (JsonNode employee : objectMapper.readTree(response.body())) {
+            knownIds.add(employee.path("id").asText());
+            String name = employee.path("employee_name").asText();
+            for (String part : name.split(" ")) {
+                if (part.length() >= 3) {
+                    nameFragments.add(
+                            part.substring(0, Math.min(5, part.length())).toLowerCase());
+                }
+            }
+        }
+        if (knownIds.isEmpty()) {
+            throw new IllegalStateException("Employee API returned an empty roster; nothing to load test against.");
+        }
+        log.info("Discovered {} employees and {} name fragments.", knownIds.size(), nameFragments.size());
+    }
+
+    /**
+     * Executes one request of the given kind.
+     * @return the HTTP status, or {@link #NO_RESPONSE}.
+     */
+    public int execute(Operation operation, SplittableRandom random) {
+        try {
+            return switch (operation) {
+                case READ -> read(random);
+                case SEARCH -> get("/search/"
+                        + URLEncoder.encode(pick(nameFragments, random), StandardCharsets.UTF_8)
+                                .replace("+", "%20"));
+                case CREATE -> create(random);
+                case DELETE -> delete();
+            };
+        } catch (IOException e) {
+            return NO_RESPONSE;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return NO_RESPONSE;
+        }
+    }
+
+    private int read(SplittableRandom random) throws IOException, InterruptedException {
+        return switch (random.nextInt(4)) {
+            case 0 -> get("");
+            case 1 -> get("/" + pick(knownIds, random));
+            case 2 -> get("/highestSalary");
+            default -> get("/topTenHighestEarningEmployeeNames");
+        };
+    }
+
+    private int create(SplittableRandom random) throws IOException, InterruptedException {
+        String body = objectMapper.writeValueAsString(Map.of(
+                "employee_name",
+                "Load Test " + random.nextInt(1_000_000),
+                "employee_salary",
+                random.nextInt(30_000, 500_000),
+                "employee_age",
+                random.nextInt(16, 75),
+                "employee_title",
+                "Load Tester"));
+        HttpResponse<String> response = httpClient.send(
+                HttpRequest.newBuilder(URI.create(baseUrl))
+                        .timeout(TIMEOUT)
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(body))
+                        .build(),
+                HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() == 200) {
+            String id = objectMapper.readTree(response.body()).path("id").asText(null);
+            if (id != null) {
+                createdIds.add(id);
+            }
+        }
+        return response.statusCode();
+    }
+
+    /**
+     * Deletes an employee this client created, so the roster does not shrink over a long run.
+     * Falls back to an unknown ID when nothing has been created yet.
+     */
+    private int delete() throws IOException, InterruptedException {
+        String id = createdIds.poll();
+        HttpResponse<Void> response = httpClient.send(
+                HttpRequest.newBuilder(URI.create(baseUrl + "/" + (id != null ? id : UUID.randomUUID())))
+                        .timeout(TIMEOUT)
+                        .DELETE()
+                        .build(),
+                HttpResponse.BodyHandlers.discarding());
+        return response.statusCode();
+    }
+
+    private int get(String path) throws IOException, InterruptedException {
+        return httpClient
+                .send(
+                        HttpRequest.newBuilder(URI.create(baseUrl + path))
+                                .timeout(TIMEOUT)
+                                .GET()
+                                .build(),
+                        HttpResponse.BodyHandlers.discarding())
+                .statusCode();
+    }
+
+    private static String pick(List<String> values, SplittableRandom random) {
+        return values.get(random.nextInt(values.size()));
+    }
+}
@@ -0,0 +1,57 @@
+package com.reliaquest.loadtest;
+
+import java.time.Duration;
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Open-loop load generator: requests are scheduled at a fixed rate whether or not earlier ones have completed,
+ * and handed to a pool of virtual users to execute. When every virtual user is busy, scheduled requests queue up
+ * and their wait is part of the recorded latency.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class LoadGenerator {
+
+    private final LoadTestConfig config;
+    private final EmployeeApiClient client;
+
+    public LoadTestResult run(Duration duration) throws InterruptedException {
+        final var result = new LoadTestResult();
+        final var random = new Random(config.seed());
+        final ExecutorService virtualUsers = Executors.newFixedThreadPool(config.virtualUsers());
+        final long intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / config.rate());
+        final long start = System.nanoTime();
+        final long end = start + duration.toNanos();
+
+        try {
+            for (long scheduled = start; scheduled < end; scheduled += intervalNanos) {
+                long wait;
+                while ((wait = scheduled - System.nanoTime()) > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                final Operation operation = config.mix().next(random);
+                final var requestRandom = new SplittableRandom(random.nextLong());
+                final long scheduledAt = scheduled;
+                virtualUsers.execute(() -> {
+                    int status = client.execute(operation, requestRandom);
+                    result.record(operation, status, System.nanoTime() - scheduledAt);
+                });
+            }
+        } finally {
+            virtualUsers.shutdown();
+            if (!virtualUsers.awaitTermination(1, TimeUnit.MINUTES)) {
+                log.warn("Virtual users did not drain within a minute; abandoning outstanding requests.");
+                virtualUsers.shutdownNow();
+            }
+        }
+        result.finish(System.nanoTime() - start);
+        return result;
+    }
+}
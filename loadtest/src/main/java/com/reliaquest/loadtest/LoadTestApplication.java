@@ -0,0 +1,69 @@
+package com.reliaquest.loadtest;
+
+import com.reliaquest.api.ApiApplication;
+import com.reliaquest.server.ServerApplication;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * End-to-end load test of the Employee API against the mock server, both started in this JVM on ephemeral ports.
+ * <p>
+ * Each application gets its own config file ({@code loadtest-server.yml}, {@code loadtest-api.yml}) because both
+ * modules ship an {@code application.yml} on the same classpath. Options are passed as {@code --key=value}, see
+ * {@link LoadTestConfig}; e.g. {@code ./gradlew loadtest:bootRun --args='--rate=200 --duration=60s'}.
+ */
+@Slf4j
+public class LoadTestApplication {
+
+    public static void main(String[] args) throws Exception {
+        final var config = LoadTestConfig.parse(args);
+
+        final var serverProperties =
+                new HashMap<String, Object>(config.rateLimit().serverProperties());
+        serverProperties.put("mock.employees.max", config.employees());
+
+        try (ConfigurableApplicationContext server =
+                        start(ServerApplication.class, "loadtest-server", serverProperties);
+                ConfigurableApplicationContext api = start(
+                        ApiApplication.class, "loadtest-api", Map.of("api.upstream.base-url", upstreamUrl(server)))) {
+            final var client = new EmployeeApiClient("http://localhost:%d/api/employees".formatted(port(api)));
+            client.discover();
+            final var generator = new LoadGenerator(config, client);
+
+            log.info("Warming up for {} at {} requests/s.", config.warmup(), config.rate());
+            generator.run(config.warmup());
+
+            log.info("Measuring for {} at {} requests/s.", config.duration(), config.rate());
+            final var registry = api.getBean(MeterRegistry.class);
+            final var upstreamBefore = UpstreamCalls.count(registry);
+            final var result = generator.run(config.duration());
+            final var upstreamCalls = UpstreamCalls.difference(UpstreamCalls.count(registry), upstreamBefore);
+
+            final var lines = LoadTestReport.lines(config, result, upstreamCalls);
+            LoadTestReport.write(config.report(), lines, result);
+            lines.forEach(System.out::println);
+            log.info("Report written to {}.", config.report().toAbsolutePath());
+        }
+    }
+
+    private static ConfigurableApplicationContext start(
+            Class<?> application, String configName, Map<String, Object> properties) {
+        return new SpringApplicationBuilder(application)
+                .properties("spring.config.name=" + configName)
+                .properties(properties)
+                .run();
+    }
+
+    private static String upstreamUrl(ConfigurableApplicationContext server) {
+        return "http://localhost:%d/api/v1/employee".formatted(port(server));
+    }
+
+    private static int port(ConfigurableApplicationContext context) {
+        return ((WebServerApplicationContext) context).getWebServer().getPort();
+    }
+}
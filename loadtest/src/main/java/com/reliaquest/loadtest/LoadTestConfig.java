@@ -0,0 +1,98 @@
+package com.reliaquest.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import org.springframework.boot.convert.DurationStyle;
+
+/**
+ * Load test settings, parsed from {@code --key=value} arguments.
+ *
+ * @param rate Requests per second offered to the API, independent of how fast it answers (open loop).
+ * @param warmup Traffic sent before measuring, to warm caches and the JIT.
+ * @param duration Length of the measured run.
+ * @param virtualUsers Number of concurrent clients executing the scheduled requests.
+ * @param mix Weighted traffic mix.
+ * @param seed Seed for the operation sequence and request parameters.
+ * @param employees Size of the mock server's roster.
+ * @param rateLimit The mock server's per-client rate limit; the API is its only client.
+ * @param report File the report is written to.
+ */
+public record LoadTestConfig(
+        double rate,
+        Duration warmup,
+        Duration duration,
+        int virtualUsers,
+        OperationMix mix,
+        long seed,
+        int employees,
+        RateLimit rateLimit,
+        Path report) {
+
+    public static LoadTestConfig parse(String... args) {
+        final Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --key=value but got '%s'.".formatted(arg));
+            }
+            options.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+        }
+        return new LoadTestConfig(
+                Double.parseDouble(options.getOrDefault("rate", "100")),
+                DurationStyle.detectAndParse(options.getOrDefault("warmup", "10s")),
+                DurationStyle.detectAndParse(options.getOrDefault("duration", "30s")),
+                Integer.parseInt(options.getOrDefault("vus", "32")),
+                OperationMix.parse(options.getOrDefault("mix", "read:60,search:25,create:10,delete:5")),
+                Long.parseLong(options.getOrDefault("seed", "42")),
+                Integer.parseInt(options.getOrDefault("employees", "50")),
+                RateLimit.parse(options.getOrDefault("rate-limit", "off")),
+                Path.of(options.getOrDefault("report", "build/reports/loadtest/report.txt")));
+    }
+
+    /**
+     * The mock server's token bucket limiter, given as {@code off} or {@code <capacity>/<refill period>}, e.g.
+     * {@code 100/1s}. Off by default: with its usual burst of 5-10 requests the run would mostly measure load
+     * shedding rather than throughput.
+     */
+    public record RateLimit(int capacity, Duration refillPeriod) {
+
+        public static final RateLimit OFF = new RateLimit(0, Duration.ZERO);
+
+        public static RateLimit parse(String value) {
+            if (value.equals("off")) {
+                return OFF;
+            }
+            int slash = value.indexOf('/');
+            if (slash < 0) {
+                throw new IllegalArgumentException(
+                        "Expected off or <capacity>/<refill period> but got '%s'.".formatted(value));
+            }
+            return new RateLimit(
+                    Integer.parseInt(value.substring(0, slash)),
+                    DurationStyle.detectAndParse(value.substring(slash + 1)));
+        }
+
+        public boolean isOff() {
+            return capacity == 0;
+        }
+
+        public Map<String, Object> serverProperties() {
+            if (isOff()) {
+                return Map.of("mock.faults.rate-limit.enabled", false);
+            }
+            return Map.of(
+                    "mock.faults.rate-limit.enabled",
+                    true,
+                    "mock.faults.rate-limit.capacity",
+                    capacity,
+                    "mock.faults.rate-limit.refill-period",
+                    refillPeriod.toString());
+        }
+
+        @Override
+        public String toString() {
+            return isOff() ? "off" : capacity + "/" + refillPeriod;
+        }
+    }
+}
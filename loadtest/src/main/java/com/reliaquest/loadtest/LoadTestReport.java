@@ -0,0 +1,85 @@
+package com.reliaquest.loadtest;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Writes a load test result as sorted {@code key=value} lines, so two runs can be compared with a plain diff.
+ * The full HdrHistogram percentile distribution of each operation is written next to it as {@code <op>.hgrm}.
+ */
+public final class LoadTestReport {
+
+    private LoadTestReport() {}
+
+    public static List<String> lines(LoadTestConfig config, LoadTestResult result, Map<String, Long> upstreamCalls) {
+        final var lines = new ArrayList<String>();
+        lines.add("config.rate=" + format(config.rate()));
+        lines.add("config.warmup=" + config.warmup());
+        lines.add("config.duration=" + config.duration());
+        lines.add("config.virtual-users=" + config.virtualUsers());
+        lines.add("config.mix=" + config.mix());
+        lines.add("config.seed=" + config.seed());
+        lines.add("config.employees=" + config.employees());
+        lines.add("config.rate-limit=" + config.rateLimit());
+
+        long total = result.totalRequests();
+        double seconds = result.getElapsedNanos() / (double) TimeUnit.SECONDS.toNanos(1);
+        lines.add("total.requests=" + total);
+        lines.add("total.throughput=" + format(total / seconds));
+
+        for (Operation operation : Operation.values()) {
+            Histogram latencies = result.latencies(operation);
+            String prefix = operation.key() + ".";
+            lines.add(prefix + "requests=" + latencies.getTotalCount());
+            result.statuses(operation)
+                    .forEach((status, count) -> lines.add(prefix + "status." + statusKey(status) + "=" + count));
+            lines.add(prefix + "p50.ms=" + millis(latencies.getValueAtPercentile(50)));
+            lines.add(prefix + "p99.ms=" + millis(latencies.getValueAtPercentile(99)));
+            lines.add(prefix + "p999.ms=" + millis(latencies.getValueAtPercentile(99.9)));
+            lines.add(prefix + "max.ms=" + millis(latencies.getMaxValue()));
+        }
+
+        long upstreamTotal =
+                upstreamCalls.values().stream().mapToLong(Long::longValue).sum();
+        upstreamCalls.forEach((endpoint, count) -> lines.add("upstream.calls." + endpoint + "=" + count));
+        lines.add("upstream.calls.total=" + upstreamTotal);
+        lines.add("upstream.calls.per-request=" + format(total == 0 ? 0 : upstreamTotal / (double) total));
+        return lines;
+    }
+
+    public static void write(Path report, List<String> lines, LoadTestResult result) throws IOException {
+        Path directory = report.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Files.write(report, lines, StandardCharsets.UTF_8);
+        for (Operation operation : Operation.values()) {
+            try (var out = new PrintStream(
+                    Files.newOutputStream(directory.resolve(operation.key() + ".hgrm")),
+                    false,
+                    StandardCharsets.UTF_8)) {
+                // Histogram values are microseconds; scale the distribution to milliseconds
+                result.latencies(operation).outputPercentileDistribution(out, 1000.0);
+            }
+        }
+    }
+
+    private static String statusKey(int status) {
+        return status == EmployeeApiClient.NO_RESPONSE ? "none" : String.valueOf(status);
+    }
+
+    private static String millis(long micros) {
+        return format(micros / 1000.0);
+    }
+
+    private static String format(double value) {
+        return String.format(Locale.ROOT, "%.3f", value);
+    }
+}
@@ -0,0 +1,63 @@
+package com.reliaquest.loadtest;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.Getter;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Latency histograms and status counts of one load test run, per {@link Operation}.
+ * Latencies are in microseconds and measured from each request's scheduled start, so time spent waiting for a
+ * free virtual user counts against the API (no coordinated omission).
+ */
+public class LoadTestResult {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    private final Map<Operation, Histogram> latencies = new EnumMap<>(Operation.class);
+    private final Map<Operation, Map<Integer, LongAdder>> statuses = new EnumMap<>(Operation.class);
+
+    @Getter
+    private long elapsedNanos;
+
+    public LoadTestResult() {
+        for (Operation operation : Operation.values()) {
+            latencies.put(operation, new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3));
+            statuses.put(operation, new ConcurrentHashMap<>());
+        }
+    }
+
+    public void record(Operation operation, int status, long latencyNanos) {
+        long micros = Math.min(TimeUnit.NANOSECONDS.toMicros(latencyNanos), HIGHEST_TRACKABLE_MICROS);
+        latencies.get(operation).recordValue(micros);
+        statuses.get(operation)
+                .computeIfAbsent(status, ignored -> new LongAdder())
+                .increment();
+    }
+
+    void finish(long elapsedNanos) {
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public Histogram latencies(Operation operation) {
+        return latencies.get(operation);
+    }
+
+    /**
+     * @return request counts by HTTP status, in ascending status order.
+     */
+    public Map<Integer, Long> statuses(Operation operation) {
+        final var counts = new TreeMap<Integer, Long>();
+        statuses.get(operation).forEach((status, count) -> counts.put(status, count.sum()));
+        return counts;
+    }
+
+    public long totalRequests() {
+        return latencies.values().stream().mapToLong(Histogram::getTotalCount).sum();
+    }
+}
@@ -0,0 +1,24 @@
+package com.reliaquest.loadtest;
+
+import java.util.Locale;
+
+/**
+ * Kinds of traffic the load generator mixes.
+ */
+public enum Operation {
+    /**
+     * Any of the roster reads: all employees, by ID, highest salary or top ten earners.
+     */
+    READ,
+    SEARCH,
+    CREATE,
+    DELETE;
+
+    public String key() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+
+    public static Operation fromKey(String key) {
+        return valueOf(key.trim().toUpperCase(Locale.ROOT));
+    }
+}
@@ -0,0 +1,60 @@
+package com.reliaquest.loadtest;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+/**
+ * Weighted traffic mix, e.g. {@code read:60,search:25,create:10,delete:5}.
+ */
+public class OperationMix {
+
+    private final Map<Operation, Integer> weights;
+    private final Operation[] operations;
+    private final int[] cumulativeWeights;
+
+    public OperationMix(Map<Operation, Integer> weights) {
+        this.weights = new EnumMap<>(weights);
+        this.weights.values().removeIf(weight -> weight <= 0);
+        if (this.weights.isEmpty()) {
+            throw new IllegalArgumentException("Traffic mix must give at least one operation a positive weight.");
+        }
+        this.operations = this.weights.keySet().toArray(Operation[]::new);
+        this.cumulativeWeights = new int[operations.length];
+        int total = 0;
+        for (int i = 0; i < operations.length; i++) {
+            total += this.weights.get(operations[i]);
+            cumulativeWeights[i] = total;
+        }
+    }
+
+    public static OperationMix parse(String mix) {
+        final var weights = new EnumMap<Operation, Integer>(Operation.class);
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid traffic mix entry '%s'.".formatted(entry));
+            }
+            weights.put(Operation.fromKey(parts[0]), Integer.parseInt(parts[1].trim()));
+        }
+        return new OperationMix(weights);
+    }
+
+    public Operation next(Random random) {
+        int pick = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (pick < cumulativeWeights[i]) {
+                return operations[i];
+            }
+        }
+        return operations[operations.length - 1];
+    }
+
+    @Override
+    public String toString() {
+        return weights.entrySet().stream()
+                .map(entry -> entry.getKey().key() + ":" + entry.getValue())
+                .collect(Collectors.joining(","));
+    }
+}
@@ -0,0 +1,182 @@
+package com.reliaquest.loadtest;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Measures the time from launching a fresh JVM until it can serve data, for the mock server and then the Employee
+ * API pointed at it: the first successful roster request for the server, and readiness reporting {@code UP} for the
+ * API, in the default mode and in the fast-startup mode (AppCDS archive plus the {@code fast-startup} profile). Both
+ * modes launch the same classpath so only the mode differs.
+ * <p>
+ * Started by the {@code timeToFirstRequest} Gradle task, which records the archives first and passes each
+ * application's classpath, main class and archive as {@code startup.<app>.*} system properties.
+ */
+@Slf4j
+public class TimeToFirstRequest {
+
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(2);
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(10);
+    private static final Path REPORT_DIRECTORY = Path.of("build/reports/startup");
+
+    private static final HttpClient HTTP_CLIENT =
+            HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+
+    private enum Mode {
+        DEFAULT,
+        FAST;
+
+        String key() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    private record Application(String name, String classpath, String mainClass, Path cdsArchive, String probePath) {
+
+        static Application fromSystemProperties(String name, String probePath) {
+            return new Application(
+                    name,
+                    System.getProperty("startup.%s.classpath".formatted(name)),
+                    System.getProperty("startup.%s.main-class".formatted(name)),
+                    Path.of(System.getProperty("startup.%s.cds-archive".formatted(name))),
+                    probePath);
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        final int runs = args.length > 0 ? Integer.parseInt(args[0]) : 3;
+        final var server = Application.fromSystemProperties("server", "/api/v1/employee");
+        // Not a read endpoint: the API answers those with an empty roster while its first fetch is failing. Readiness
+        // only reports UP once a roster has actually been fetched
+        final var api = Application.fromSystemProperties("api", "/actuator/health/readiness");
+        Files.createDirectories(REPORT_DIRECTORY);
+
+        final var lines = new ArrayList<String>();
+        lines.add("runs=" + runs);
+        for (Mode mode : Mode.values()) {
+            final long[] serverMillis = new long[runs];
+            final long[] apiMillis = new long[runs];
+            for (int run = 0; run < runs; run++) {
+                final int serverPort = freePort();
+                final Process serverProcess = launch(server, mode, serverPort, List.of());
+                try {
+                    serverMillis[run] = awaitFirstSuccess(serverProcess, server, serverPort);
+                    final int apiPort = freePort();
+                    final Process apiProcess = launch(
+                            api,
+                            mode,
+                            apiPort,
+                            List.of("--api.upstream.base-url=http://localhost:%d/api/v1/employee"
+                                    .formatted(serverPort)));
+                    try {
+                        apiMillis[run] = awaitFirstSuccess(apiProcess, api, apiPort);
+                    } finally {
+                        stop(apiProcess);
+                    }
+                } finally {
+                    stop(serverProcess);
+                }
+                log.info("{} run {}: server {} ms, api {} ms.", mode.key(), run + 1, serverMillis[run], apiMillis[run]);
+            }
+            lines.add(mode.key() + ".server.median.ms=" + median(serverMillis));
+            lines.add(mode.key() + ".api.median.ms=" + median(apiMillis));
+        }
+
+        Files.write(REPORT_DIRECTORY.resolve("report.txt"), lines, StandardCharsets.UTF_8);
+        lines.forEach(System.out::println);
+    }
+
+    private static Process launch(Application application, Mode mode, int port, List<String> arguments)
+            throws IOException {
+        final var command = new ArrayList<String>();
+        command.add(ProcessHandle.current().info().command().orElse("java"));
+        command.add("-cp");
+        command.add(application.classpath());
+        if (mode == Mode.FAST) {
+            command.add("-XX:SharedArchiveFile=" + application.cdsArchive());
+            command.add("-Dspring.profiles.active=fast-startup");
+        }
+        command.add(application.mainClass());
+        command.add("--server.port=" + port);
+        command.addAll(arguments);
+
+        final Path output = REPORT_DIRECTORY.resolve("%s-%s.log".formatted(mode.key(), application.name()));
+        return new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(output.toFile())
+                .start();
+    }
+
+    /**
+     * Polls the application until it answers 200, measuring from the moment the JVM was launched.
+     */
+    private static long awaitFirstSuccess(Process process, Application application, int port)
+            throws IOException, InterruptedException {
+        final long launchedAt = process.info()
+                .startInstant()
+                .map(instant -> TimeUnit.MILLISECONDS.toNanos(instant.toEpochMilli()))
+                .orElseGet(() -> TimeUnit.MILLISECONDS.toNanos(System.currentTimeMillis()));
+        final var request = HttpRequest.newBuilder(
+                        URI.create("http://localhost:%d%s".formatted(port, application.probePath())))
+                .timeout(Duration.ofSeconds(5))
+                .GET()
+                .build();
+        final long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException("%s exited with %d before answering; see %s."
+                        .formatted(application.name(), process.exitValue(), REPORT_DIRECTORY));
+            }
+            try {
+                if (HTTP_CLIENT
+                                .send(request, HttpResponse.BodyHandlers.discarding())
+                                .statusCode()
+                        == 200) {
+                    long now = TimeUnit.MILLISECONDS.toNanos(System.currentTimeMillis());
+                    return TimeUnit.NANOSECONDS.toMillis(now - launchedAt);
+                }
+            } catch (ConnectException e) {
+                // Not listening yet
+            } catch (HttpTimeoutException e) {
+                // Listening, but still initializing the beans the first request needs
+            }
+            Thread.sleep(POLL_INTERVAL.toMillis());
+        }
+        throw new IllegalStateException("%s did not answer within %s.".formatted(application.name(), STARTUP_TIMEOUT));
+    }
+
+    private static void stop(Process process) throws InterruptedException {
+        process.destroy();
+        if (!process.waitFor(10, TimeUnit.SECONDS)) {
+            process.destroyForcibly().waitFor();
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (var socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private static long median(long[] values) {
+        final long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+}
@@ -0,0 +1,31 @@
+package com.reliaquest.loadtest;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * Reads how many calls the Employee API has made to the mock server, per upstream endpoint, from its
+ * {@code employee.upstream.latency} timers.
+ */
+public final class UpstreamCalls {
+
+    private UpstreamCalls() {}
+
+    public static Map<String, Long> count(MeterRegistry registry) {
+        final var counts = new TreeMap<String, Long>();
+        for (Timer timer : registry.find("employee.upstream.latency").timers()) {
+            String endpoint = Objects.requireNonNullElse(timer.getId().getTag("endpoint"), "unknown");
+            counts.merge(endpoint, timer.count(), Long::sum);
+        }
+        return counts;
+    }
+
+    public static Map<String, Long> difference(Map<String, Long> after, Map<String, Long> before) {
+        final var delta = new TreeMap<String, Long>();
+        after.forEach((endpoint, count) -> delta.put(endpoint, count - before.getOrDefault(endpoint, 0L)));
+        return delta;
+    }
+}
@@ -0,0 +1,118 @@
+package com.reliaquest.server.config;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Misbehavior of the mock server: rate limiting, injected latency, injected errors and slow-drip responses.
+ * Everything except the rate limiter is off by default.
+ */
+@Data
+@ConfigurationProperties(prefix = "mock.faults")
+public class FaultInjectionProperties {
+
+    /**
+     * Seed for every random decision below; leave unset for a different run every time.
+     */
+    private Long seed;
+
+    private RateLimit rateLimit = new RateLimit();
+    private Latency latency = new Latency();
+    private List<RouteErrors> errors = new ArrayList<>();
+    private SlowDrip slowDrip = new SlowDrip();
+
+    @Data
+    public static class RateLimit {
+        private boolean enabled = true;
+
+        /**
+         * Requests each client may burst before being limited; drawn between 5 and 10 when unset.
+         */
+        private Integer capacity;
+
+        /**
+         * Time for a client's empty bucket to refill completely; drawn between 30s and 90s when unset.
+         */
+        private Duration refillPeriod;
+
+        /**
+         * Request header identifying the client; the remote address is used when it is absent.
+         */
+        private String clientHeader = "X-Client-Id";
+
+        /**
+         * How long a client may stay quiet before its bucket is evicted.
+         */
+        private Duration idleTimeout = Duration.ofMinutes(5);
+    }
+
+    @Data
+    public static class Latency {
+        private Distribution distribution = Distribution.NONE;
+
+        /**
+         * Delay for {@link Distribution#FIXED}.
+         */
+        private Duration fixed = Duration.ofMillis(50);
+
+        /**
+         * Mean and standard deviation for {@link Distribution#NORMAL}.
+         */
+        private Duration mean = Duration.ofMillis(50);
+
+        private Duration stdDev = Duration.ofMillis(10);
+
+        /**
+         * Minimum delay and Pareto shape for {@link Distribution#LONG_TAIL}; lower shapes give heavier tails.
+         */
+        private Duration scale = Duration.ofMillis(20);
+
+        private double shape = 1.5;
+
+        /**
+         * Upper bound on any injected delay.
+         */
+        private Duration max = Duration.ofSeconds(5);
+
+        public enum Distribution {
+            NONE,
+            FIXED,
+            NORMAL,
+            LONG_TAIL
+        }
+    }
+
+    @Data
+    public static class RouteErrors {
+        /**
+         * HTTP method to match, or any method when unset.
+         */
+        private String method;
+
+        /**
+         * Ant-style path pattern, e.g. {@code /api/v1/employee/*}.
+         */
+        private String path = "/**";
+
+        /**
+         * Fraction of matching requests answered with {@link #status} instead of being handled.
+         */
+        private double rate;
+
+        private int status = 500;
+    }
+
+    @Data
+    public static class SlowDrip {
+        /**
+         * Fraction of responses whose body is written in small chunks with a pause between them.
+         */
+        private double probability;
+
+        private int chunkBytes = 256;
+        private Duration chunkInterval = Duration.ofMillis(20);
+    }
+}
@@ -1,19 +1,30 @@
 package com.reliaquest.server.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.reliaquest.server.model.MockEmployee;
-import com.reliaquest.server.web.RandomRequestLimitInterceptor;
+import com.reliaquest.server.web.ErrorInjectionInterceptor;
+import com.reliaquest.server.web.FaultRandom;
+import com.reliaquest.server.web.LatencyInjectionInterceptor;
+import com.reliaquest.server.web.SlowDripFilter;
+import com.reliaquest.server.web.TokenBucketRateLimitInterceptor;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
+import java.util.Objects;
+import java.util.Random;
 import java.util.UUID;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import net.datafaker.Faker;
 import net.datafaker.transformations.Field;
 import net.datafaker.transformations.JavaObjectTransformer;
 import net.datafaker.transformations.Schema;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
@@ -21,10 +32,28 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 @Slf4j
 @Configuration
+@RequiredArgsConstructor
+@EnableConfigurationProperties(FaultInjectionProperties.class)
 public class ServerConfiguration implements WebMvcConfigurer {
 
     public static final String EMAIL_TEMPLATE = "%s@company.com";
 
+    /*
+     * Faults only apply to the mock API, never to actuator health probes.
+     */
+    private static final String API_PATTERN = "/api/**";
+
+    /*
+     * Each fault gets its own random stream, so enabling one does not change the decisions of another.
+     */
+    private static final int RATE_LIMIT_STREAM = 1;
+    private static final int LATENCY_STREAM = 2;
+    private static final int ERRORS_STREAM = 3;
+    private static final int SLOW_DRIP_STREAM = 4;
+
+    private final FaultInjectionProperties faultInjectionProperties;
+    private final ObjectMapper objectMapper;
+
     @Bean
     public Faker faker() {
         return new Faker(Locale.getDefault());
@@ -52,8 +81,55 @@ public class ServerConfiguration implements WebMvcConfigurer {
                 .collect(Collectors.toCollection(ArrayList::new));
     }
 
+    @Bean
+    public FilterRegistrationBean<SlowDripFilter> slowDripFilter() {
+        final var slowDrip = faultInjectionProperties.getSlowDrip();
+        final var registration =
+                new FilterRegistrationBean<>(new SlowDripFilter(slowDrip, faultRandom(SLOW_DRIP_STREAM)));
+        registration.addUrlPatterns("/api/*");
+        registration.setEnabled(slowDrip.getProbability() > 0);
+        return registration;
+    }
+
+    /*
+     * Interceptors run in registration order: the rate limiter rejects first, injected latency then applies to
+     * everything it admitted, including requests that go on to fail with an injected error.
+     */
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
-        registry.addInterceptor(new RandomRequestLimitInterceptor());
+        final var rateLimit = faultInjectionProperties.getRateLimit();
+        if (rateLimit.isEnabled()) {
+            final var random = random(RATE_LIMIT_STREAM);
+            final int capacity = Objects.requireNonNullElseGet(rateLimit.getCapacity(), () -> random.nextInt(5, 10));
+            final Duration refillPeriod = Objects.requireNonNullElseGet(
+                    rateLimit.getRefillPeriod(), () -> Duration.ofSeconds(random.nextInt(30, 90)));
+            log.info("Rate limiting each client to bursts of {} requests, refilled every {}.", capacity, refillPeriod);
+            registry.addInterceptor(new TokenBucketRateLimitInterceptor(
+                            capacity, refillPeriod, rateLimit.getClientHeader(), rateLimit.getIdleTimeout()))
+                    .addPathPatterns(API_PATTERN);
+        }
+
+        final var latency = faultInjectionProperties.getLatency();
+        if (latency.getDistribution() != FaultInjectionProperties.Latency.Distribution.NONE) {
+            log.info("Injecting {} latency.", latency.getDistribution());
+            registry.addInterceptor(new LatencyInjectionInterceptor(latency, faultRandom(LATENCY_STREAM)))
+                    .addPathPatterns(API_PATTERN);
+        }
+
+        final var errors = faultInjectionProperties.getErrors();
+        if (!errors.isEmpty()) {
+            log.info("Injecting errors on {} route(s).", errors.size());
+            registry.addInterceptor(new ErrorInjectionInterceptor(errors, faultRandom(ERRORS_STREAM), objectMapper))
+                    .addPathPatterns(API_PATTERN);
+        }
+    }
+
+    private FaultRandom faultRandom(int stream) {
+        return FaultRandom.of(faultInjectionProperties.getSeed(), stream);
+    }
+
+    private Random random(int stream) {
+        final Long seed = faultInjectionProperties.getSeed();
+        return seed == null ? new Random() : new Random(seed * 31 + stream);
     }
 }
@@ -13,6 +13,8 @@ import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import net.datafaker.Faker;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 
 @Slf4j
@@ -25,6 +27,15 @@ public class MockEmployeeService {
     @Getter
     private final List<MockEmployee> mockEmployees;
 
+    /*
+     * Runs before the application reports itself ready, so with lazy initialization the roster is still generated
+     * before the readiness probe lets traffic in.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        log.info("Serving {} mock employees.", mockEmployees.size());
+    }
+
     public Optional<MockEmployee> findById(@NonNull UUID uuid) {
         return mockEmployees.stream()
                 .filter(mockEmployee -> Objects.nonNull(mockEmployee.getId())
@@ -0,0 +1,55 @@
+package com.reliaquest.server.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.server.config.FaultInjectionProperties;
+import com.reliaquest.server.model.Response;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.PathMatcher;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Fails a configured fraction of requests per route with an error status instead of handling them.
+ */
+@Slf4j
+public class ErrorInjectionInterceptor implements HandlerInterceptor {
+
+    private static final PathMatcher PATH_MATCHER = new AntPathMatcher();
+
+    private final List<FaultInjectionProperties.RouteErrors> routes;
+    private final FaultRandom random;
+    private final ObjectMapper objectMapper;
+
+    public ErrorInjectionInterceptor(
+            List<FaultInjectionProperties.RouteErrors> routes, FaultRandom random, ObjectMapper objectMapper) {
+        this.routes = List.copyOf(routes);
+        this.random = random;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler)
+            throws IOException {
+        final var decisions = random.next(request);
+        for (FaultInjectionProperties.RouteErrors route : routes) {
+            if (matches(route, request) && decisions.nextDouble() < route.getRate()) {
+                log.debug("Injecting {} for {} {}.", route.getStatus(), request.getMethod(), request.getRequestURI());
+                response.setStatus(route.getStatus());
+                response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+                objectMapper.writeValue(response.getOutputStream(), Response.error("Injected fault."));
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean matches(FaultInjectionProperties.RouteErrors route, HttpServletRequest request) {
+        return (route.getMethod() == null || route.getMethod().equalsIgnoreCase(request.getMethod()))
+                && PATH_MATCHER.match(route.getPath(), request.getRequestURI());
+    }
+}
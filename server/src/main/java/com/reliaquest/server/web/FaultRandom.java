@@ -0,0 +1,55 @@
+package com.reliaquest.server.web;
+
+import jakarta.servlet.http.HttpServletRequest;
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.random.RandomGenerator;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Random source for fault decisions that stays reproducible under concurrent traffic. The n-th request on a route
+ * gets its own generator, derived from the seed and n, so its decisions do not depend on how request threads
+ * interleave, or on traffic to other routes.
+ */
+public class FaultRandom {
+
+    private final long seed;
+    private final ConcurrentMap<String, AtomicLong> sequences = new ConcurrentHashMap<>();
+
+    public FaultRandom(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * @param seed Seed for reproducible runs, or null for different decisions on every run.
+     * @param stream Distinguishes the faults, so enabling one does not change the decisions of another.
+     */
+    public static FaultRandom of(Long seed, int stream) {
+        return new FaultRandom(seed == null ? new Random().nextLong() : seed * 31 + stream);
+    }
+
+    /**
+     * @return the generator for the next request on {@code route}.
+     */
+    public RandomGenerator next(String route) {
+        final long sequence =
+                sequences.computeIfAbsent(route, ignored -> new AtomicLong()).getAndIncrement();
+        return new SplittableRandom((seed * 31 + route.hashCode()) * 1_000_003 + sequence);
+    }
+
+    public RandomGenerator next(HttpServletRequest request) {
+        return next(route(request));
+    }
+
+    /**
+     * Method and matched handler pattern, e.g. {@code GET /api/v1/employee/{id}}, so requests for different ids
+     * share one sequence.
+     */
+    static String route(HttpServletRequest request) {
+        final Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return request.getMethod() + " " + (pattern != null ? pattern : "(unmatched)");
+    }
+}
@@ -0,0 +1,51 @@
+package com.reliaquest.server.web;
+
+import com.reliaquest.server.config.FaultInjectionProperties;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.util.concurrent.TimeUnit;
+import java.util.random.RandomGenerator;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Delays every request by a value drawn from the configured latency distribution.
+ */
+public class LatencyInjectionInterceptor implements HandlerInterceptor {
+
+    private final FaultInjectionProperties.Latency latency;
+    private final FaultRandom faultRandom;
+
+    public LatencyInjectionInterceptor(FaultInjectionProperties.Latency latency, FaultRandom faultRandom) {
+        this.latency = latency;
+        this.faultRandom = faultRandom;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler)
+            throws InterruptedException {
+        long delayNanos = delayNanos(faultRandom.next(request));
+        if (delayNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(delayNanos);
+        }
+        return true;
+    }
+
+    /**
+     * A sample from the configured distribution, capped at its maximum.
+     */
+    long delayNanos(RandomGenerator random) {
+        return Math.min(sampleNanos(random), latency.getMax().toNanos());
+    }
+
+    private long sampleNanos(RandomGenerator random) {
+        return switch (latency.getDistribution()) {
+            case NONE -> 0;
+            case FIXED -> latency.getFixed().toNanos();
+            case NORMAL -> Math.max(0, (long) (latency.getMean().toNanos()
+                    + random.nextGaussian() * latency.getStdDev().toNanos()));
+                // Pareto: scale / U^(1 / shape), U uniform in (0, 1]
+            case LONG_TAIL -> (long)
+                    (latency.getScale().toNanos() / Math.pow(1.0 - random.nextDouble(), 1.0 / latency.getShape()));
+        };
+    }
+}
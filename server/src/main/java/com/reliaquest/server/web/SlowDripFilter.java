@@ -0,0 +1,65 @@
+package com.reliaquest.server.web;
+
+import com.reliaquest.server.config.FaultInjectionProperties;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+/**
+ * Writes a configured fraction of response bodies in small chunks with a pause after each one, like a slow or
+ * congested link would. Responses are buffered and the decision is made once the request has been handled, when its
+ * route is known.
+ */
+public class SlowDripFilter extends OncePerRequestFilter {
+
+    private final FaultInjectionProperties.SlowDrip slowDrip;
+    private final FaultRandom faultRandom;
+
+    public SlowDripFilter(FaultInjectionProperties.SlowDrip slowDrip, FaultRandom faultRandom) {
+        this.slowDrip = slowDrip;
+        this.faultRandom = faultRandom;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        final var buffered = new ContentCachingResponseWrapper(response);
+        filterChain.doFilter(request, buffered);
+        if (faultRandom.next(request).nextDouble() >= slowDrip.getProbability()) {
+            buffered.copyBodyToResponse();
+            return;
+        }
+
+        byte[] body = buffered.getContentAsByteArray();
+        ServletOutputStream out = response.getOutputStream();
+        int chunkBytes = Math.max(1, slowDrip.getChunkBytes());
+        int offset = 0;
+        while (offset < body.length) {
+            int length = Math.min(chunkBytes, body.length - offset);
+            out.write(body, offset, length);
+            out.flush();
+            offset += length;
+            if (offset < body.length && !pause()) {
+                // Interrupted; send the rest at once
+                out.write(body, offset, body.length - offset);
+                return;
+            }
+        }
+    }
+
+    private boolean pause() {
+        try {
+            TimeUnit.NANOSECONDS.sleep(slowDrip.getChunkInterval().toNanos());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
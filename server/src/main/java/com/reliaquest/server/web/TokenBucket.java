@@ -0,0 +1,54 @@
+package com.reliaquest.server.web;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Lock-free token bucket. Tokens refill continuously up to {@code capacity}; each admitted request takes one.
+ * State is replaced with a compare-and-set, so concurrent callers never block each other.
+ */
+class TokenBucket {
+
+    private final double capacity;
+    private final double tokensPerNano;
+    private final AtomicReference<State> state;
+
+    TokenBucket(double capacity, double tokensPerNano, long nowNanos) {
+        this.capacity = capacity;
+        this.tokensPerNano = tokensPerNano;
+        this.state = new AtomicReference<>(new State(capacity, nowNanos));
+    }
+
+    Decision tryConsume(long nowNanos) {
+        while (true) {
+            State current = state.get();
+            double tokens = available(current, nowNanos);
+            if (tokens < 1) {
+                return new Decision(false, 0, (long) Math.ceil((1 - tokens) / tokensPerNano));
+            }
+            State next = new State(tokens - 1, Math.max(nowNanos, current.updatedNanos()));
+            if (state.compareAndSet(current, next)) {
+                return new Decision(true, (long) Math.floor(next.tokens()), 0);
+            }
+        }
+    }
+
+    /**
+     * A bucket untouched for longer than it takes to refill completely is indistinguishable from a new one.
+     */
+    boolean isIdle(long nowNanos, long idleNanos) {
+        return nowNanos - state.get().updatedNanos() > idleNanos;
+    }
+
+    private double available(State current, long nowNanos) {
+        long elapsed = Math.max(0, nowNanos - current.updatedNanos());
+        return Math.min(capacity, current.tokens() + elapsed * tokensPerNano);
+    }
+
+    private record State(double tokens, long updatedNanos) {}
+
+    /**
+     * @param remaining Whole tokens left after this request.
+     * @param retryAfterNanos Time until the next token is available, when rejected.
+     */
+    record Decision(boolean allowed, long remaining, long retryAfterNanos) {}
+}
@@ -0,0 +1,104 @@
+package com.reliaquest.server.web;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Rate limits each client separately with its own {@link TokenBucket}, keyed by a client header or, when absent,
+ * the remote address. Every response carries {@code X-RateLimit-Limit} and {@code X-RateLimit-Remaining};
+ * rejected requests get {@code 429} with {@code Retry-After}. Buckets of clients that have gone quiet are evicted.
+ */
+@Slf4j
+public class TokenBucketRateLimitInterceptor implements HandlerInterceptor {
+
+    public static final String LIMIT_HEADER = "X-RateLimit-Limit";
+    public static final String REMAINING_HEADER = "X-RateLimit-Remaining";
+
+    private final int capacity;
+    private final double tokensPerNano;
+    private final String clientHeader;
+    private final long idleNanos;
+    private final LongSupplier nanoTime;
+
+    private final ConcurrentMap<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private final AtomicLong lastEvictionNanos;
+
+    /**
+     * @param capacity Requests a client may burst before being limited.
+     * @param refillPeriod Time for an empty bucket to refill completely.
+     * @param clientHeader Request header identifying the client.
+     * @param idleTimeout How long a client may stay quiet before its bucket is evicted.
+     */
+    public TokenBucketRateLimitInterceptor(
+            int capacity, Duration refillPeriod, String clientHeader, Duration idleTimeout) {
+        this(capacity, refillPeriod, clientHeader, idleTimeout, System::nanoTime);
+    }
+
+    TokenBucketRateLimitInterceptor(
+            int capacity, Duration refillPeriod, String clientHeader, Duration idleTimeout, LongSupplier nanoTime) {
+        this.capacity = capacity;
+        this.tokensPerNano = (double) capacity / refillPeriod.toNanos();
+        this.clientHeader = clientHeader;
+        // Evicting a bucket before it has refilled would hand the client a fresh burst
+        this.idleNanos = Math.max(idleTimeout.toNanos(), refillPeriod.toNanos());
+        this.nanoTime = nanoTime;
+        this.lastEvictionNanos = new AtomicLong(nanoTime.getAsLong());
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        final long now = nanoTime.getAsLong();
+        evictIdleBuckets(now);
+
+        final var decision = buckets.computeIfAbsent(clientKey(request), ignored -> newBucket(now))
+                .tryConsume(now);
+        response.setHeader(LIMIT_HEADER, String.valueOf(capacity));
+        response.setHeader(REMAINING_HEADER, String.valueOf(decision.remaining()));
+        if (!decision.allowed()) {
+            long retryAfterSeconds =
+                    Math.max(1, (long) Math.ceil(decision.retryAfterNanos() / (double) TimeUnit.SECONDS.toNanos(1)));
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            return false;
+        }
+        return true;
+    }
+
+    int getBucketCount() {
+        return buckets.size();
+    }
+
+    private String clientKey(HttpServletRequest request) {
+        final String client = request.getHeader(clientHeader);
+        return client != null && !client.isBlank() ? "header:" + client : "address:" + request.getRemoteAddr();
+    }
+
+    private TokenBucket newBucket(long now) {
+        return new TokenBucket(capacity, tokensPerNano, now);
+    }
+
+    /*
+     * Amortized sweep: at most one request per idle period pays for scanning the map.
+     */
+    private void evictIdleBuckets(long now) {
+        final long last = lastEvictionNanos.get();
+        if (now - last < idleNanos || !lastEvictionNanos.compareAndSet(last, now)) {
+            return;
+        }
+        buckets.forEach((client, bucket) -> {
+            if (bucket.isIdle(now, idleNanos) && buckets.remove(client, bucket)) {
+                log.debug("Evicted idle rate limit bucket for {}.", client);
+            }
+        });
+    }
+}
@@ -0,0 +1,83 @@
+package com.reliaquest.server.web;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.server.config.FaultInjectionProperties;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+/**
+ * Unit test class for ErrorInjectionInterceptor.
+ */
+class ErrorInjectionInterceptorTest {
+
+    @Test
+    void testMatchingRouteIsFailed() throws Exception {
+        ErrorInjectionInterceptor interceptor = interceptor(route("POST", "/api/v1/employee", 1.0, 503));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertFalse(interceptor.preHandle(new MockHttpServletRequest("POST", "/api/v1/employee"), response, null));
+
+        assertEquals(503, response.getStatus());
+        assertTrue(response.getContentAsString().contains("Injected fault."));
+    }
+
+    @Test
+    void testMethodMustMatch() throws Exception {
+        ErrorInjectionInterceptor interceptor = interceptor(route("POST", "/api/v1/employee", 1.0, 500));
+
+        assertTrue(passes(interceptor, "GET", "/api/v1/employee"));
+        assertFalse(passes(interceptor, "post", "/api/v1/employee")); // Case-insensitive
+    }
+
+    @Test
+    void testUnsetMethodMatchesAnyMethod() throws Exception {
+        ErrorInjectionInterceptor interceptor = interceptor(route(null, "/api/v1/employee", 1.0, 500));
+
+        assertFalse(passes(interceptor, "GET", "/api/v1/employee"));
+        assertFalse(passes(interceptor, "DELETE", "/api/v1/employee"));
+    }
+
+    @Test
+    void testPathIsAntPattern() throws Exception {
+        ErrorInjectionInterceptor interceptor = interceptor(route("GET", "/api/v1/employee/*", 1.0, 500));
+
+        assertFalse(passes(interceptor, "GET", "/api/v1/employee/42"));
+        assertTrue(passes(interceptor, "GET", "/api/v1/employee"));
+        assertTrue(passes(interceptor, "GET", "/api/v1/employee/42/extra"));
+    }
+
+    @Test
+    void testRateIsApplied() throws Exception {
+        ErrorInjectionInterceptor interceptor = interceptor(route(null, "/**", 0.25, 500));
+
+        int failed = 0;
+        for (int i = 0; i < 10_000; i++) {
+            if (!passes(interceptor, "GET", "/api/v1/employee")) {
+                failed++;
+            }
+        }
+
+        assertEquals(2500, failed, 200);
+    }
+
+    private static FaultInjectionProperties.RouteErrors route(String method, String path, double rate, int status) {
+        FaultInjectionProperties.RouteErrors route = new FaultInjectionProperties.RouteErrors();
+        route.setMethod(method);
+        route.setPath(path);
+        route.setRate(rate);
+        route.setStatus(status);
+        return route;
+    }
+
+    private static ErrorInjectionInterceptor interceptor(FaultInjectionProperties.RouteErrors route) {
+        return new ErrorInjectionInterceptor(List.of(route), new FaultRandom(42), new ObjectMapper());
+    }
+
+    private static boolean passes(ErrorInjectionInterceptor interceptor, String method, String path) throws Exception {
+        return interceptor.preHandle(new MockHttpServletRequest(method, path), new MockHttpServletResponse(), null);
+    }
+}
@@ -0,0 +1,79 @@
+package com.reliaquest.server.web;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Unit test class for FaultRandom.
+ */
+class FaultRandomTest {
+
+    private static final String ROUTE = "GET /api/v1/employee";
+
+    @Test
+    void testSameSeedGivesSameDecisionsUnderConcurrency() throws Exception {
+        List<Double> sequential = new ArrayList<>();
+        FaultRandom first = new FaultRandom(42);
+        for (int i = 0; i < 1000; i++) {
+            sequential.add(first.next(ROUTE).nextDouble());
+        }
+
+        FaultRandom second = new FaultRandom(42);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Double>> futures = IntStream.range(0, 1000)
+                    .mapToObj(i -> executor.submit(() -> second.next(ROUTE).nextDouble()))
+                    .toList();
+            List<Double> concurrent = new ArrayList<>();
+            for (Future<Double> future : futures) {
+                concurrent.add(future.get());
+            }
+
+            // Every request number got the same decision, whichever thread drew it
+            Collections.sort(sequential);
+            Collections.sort(concurrent);
+            assertEquals(sequential, concurrent);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testRoutesDoNotAffectEachOther() {
+        FaultRandom quiet = new FaultRandom(42);
+        FaultRandom busy = new FaultRandom(42);
+        for (int i = 0; i < 10; i++) {
+            busy.next("POST /api/v1/employee").nextDouble(); // Traffic on another route
+        }
+
+        for (int i = 0; i < 10; i++) {
+            assertEquals(quiet.next(ROUTE).nextDouble(), busy.next(ROUTE).nextDouble());
+        }
+    }
+
+    @Test
+    void testDifferentSeedsGiveDifferentDecisions() {
+        assertNotEquals(
+                new FaultRandom(1).next(ROUTE).nextDouble(),
+                new FaultRandom(2).next(ROUTE).nextDouble());
+    }
+
+    @Test
+    void testRouteUsesMatchedPattern() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/employee/42");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/v1/employee/{id}");
+
+        assertEquals("GET /api/v1/employee/{id}", FaultRandom.route(request));
+        assertEquals("GET (unmatched)", FaultRandom.route(new MockHttpServletRequest("GET", "/nowhere")));
+    }
+}
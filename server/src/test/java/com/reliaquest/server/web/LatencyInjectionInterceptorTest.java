@@ -0,0 +1,93 @@
+package com.reliaquest.server.web;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.server.config.FaultInjectionProperties;
+import com.reliaquest.server.config.FaultInjectionProperties.Latency.Distribution;
+import java.time.Duration;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit test class for LatencyInjectionInterceptor.
+ */
+class LatencyInjectionInterceptorTest {
+
+    private static final int SAMPLES = 10_000;
+
+    @Test
+    void testFixedDelay() {
+        FaultInjectionProperties.Latency latency = latency(Distribution.FIXED);
+        latency.setFixed(Duration.ofMillis(30));
+
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(30), interceptor(latency).delayNanos(new SplittableRandom(1)));
+    }
+
+    @Test
+    void testNormalDelayCentersOnMeanAndIsNeverNegative() {
+        FaultInjectionProperties.Latency latency = latency(Distribution.NORMAL);
+        latency.setMean(Duration.ofMillis(50));
+        latency.setStdDev(Duration.ofMillis(40));
+
+        long[] samples = samples(interceptor(latency));
+
+        assertTrue(LongStream.of(samples).allMatch(sample -> sample >= 0));
+        double meanMillis = LongStream.of(samples).average().orElseThrow() / TimeUnit.MILLISECONDS.toNanos(1);
+        // Slightly above 50ms, because negative samples are clamped to zero
+        assertEquals(51, meanMillis, 2);
+    }
+
+    @Test
+    void testLongTailDelayStartsAtScale() {
+        FaultInjectionProperties.Latency latency = latency(Distribution.LONG_TAIL);
+        latency.setScale(Duration.ofMillis(20));
+        latency.setShape(1.5);
+        latency.setMax(Duration.ofHours(1));
+
+        long[] samples = samples(interceptor(latency));
+
+        long scale = TimeUnit.MILLISECONDS.toNanos(20);
+        assertTrue(LongStream.of(samples).allMatch(sample -> sample >= scale));
+        // Pareto: P(X > 2 * scale) = 2^-shape, about 35%
+        double aboveTwiceScale =
+                LongStream.of(samples).filter(sample -> sample > 2 * scale).count() / (double) SAMPLES;
+        assertEquals(Math.pow(2, -1.5), aboveTwiceScale, 0.02);
+    }
+
+    @Test
+    void testDelayIsCappedAtMax() {
+        FaultInjectionProperties.Latency latency = latency(Distribution.LONG_TAIL);
+        latency.setShape(0.1); // Extremely heavy tail
+        latency.setMax(Duration.ofMillis(100));
+
+        long[] samples = samples(interceptor(latency));
+
+        long max = TimeUnit.MILLISECONDS.toNanos(100);
+        assertTrue(LongStream.of(samples).allMatch(sample -> sample <= max));
+        assertTrue(LongStream.of(samples).anyMatch(sample -> sample == max));
+    }
+
+    @Test
+    void testNoneAddsNoDelay() {
+        assertEquals(0, interceptor(latency(Distribution.NONE)).delayNanos(new SplittableRandom(1)));
+    }
+
+    private static FaultInjectionProperties.Latency latency(Distribution distribution) {
+        FaultInjectionProperties.Latency latency = new FaultInjectionProperties.Latency();
+        latency.setDistribution(distribution);
+        return latency;
+    }
+
+    private static LatencyInjectionInterceptor interceptor(FaultInjectionProperties.Latency latency) {
+        return new LatencyInjectionInterceptor(latency, new FaultRandom(42));
+    }
+
+    private static long[] samples(LatencyInjectionInterceptor interceptor) {
+        SplittableRandom random = new SplittableRandom(42);
+        return LongStream.range(0, SAMPLES)
+                .map(ignored -> interceptor.delayNanos(random))
+                .toArray();
+    }
+}
@@ -0,0 +1,159 @@
+package com.reliaquest.server.web;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+/**
+ * Unit test class for TokenBucketRateLimitInterceptor.
+ */
+class TokenBucketRateLimitInterceptorTest {
+
+    private static final String CLIENT_HEADER = "X-Client-Id";
+
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    void testHeadersCountDownAndRetryAfterOnRejection() {
+        // Two tokens, refilled every 10s: one token every 5s
+        TokenBucketRateLimitInterceptor interceptor = interceptor(2, Duration.ofSeconds(10), Duration.ofMinutes(5));
+
+        MockHttpServletResponse first = send(interceptor, "a");
+        assertEquals(200, first.getStatus());
+        assertEquals("2", first.getHeader(TokenBucketRateLimitInterceptor.LIMIT_HEADER));
+        assertEquals("1", first.getHeader(TokenBucketRateLimitInterceptor.REMAINING_HEADER));
+        assertNull(first.getHeader(HttpHeaders.RETRY_AFTER));
+
+        assertEquals("0", send(interceptor, "a").getHeader(TokenBucketRateLimitInterceptor.REMAINING_HEADER));
+
+        MockHttpServletResponse rejected = send(interceptor, "a");
+        assertEquals(429, rejected.getStatus());
+        assertEquals("0", rejected.getHeader(TokenBucketRateLimitInterceptor.REMAINING_HEADER));
+        assertEquals("5", rejected.getHeader(HttpHeaders.RETRY_AFTER));
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(4) + 1);
+        assertEquals("1", send(interceptor, "a").getHeader(HttpHeaders.RETRY_AFTER)); // Rounded up to whole seconds
+    }
+
+    @Test
+    void testClientsAreIsolated() {
+        TokenBucketRateLimitInterceptor interceptor = interceptor(1, Duration.ofSeconds(10), Duration.ofMinutes(5));
+
+        assertEquals(200, send(interceptor, "a").getStatus());
+        assertEquals(429, send(interceptor, "a").getStatus());
+        assertEquals(200, send(interceptor, "b").getStatus());
+
+        // Without the header, the remote address identifies the client
+        MockHttpServletRequest anonymous = new MockHttpServletRequest("GET", "/api/v1/employee");
+        anonymous.setRemoteAddr("10.0.0.1");
+        assertTrue(interceptor.preHandle(anonymous, new MockHttpServletResponse(), null));
+        assertFalse(interceptor.preHandle(anonymous, new MockHttpServletResponse(), null));
+    }
+
+    @Test
+    void testIdleBucketsAreEvicted() {
+        TokenBucketRateLimitInterceptor interceptor = interceptor(2, Duration.ofSeconds(10), Duration.ofSeconds(30));
+        send(interceptor, "a");
+        send(interceptor, "b");
+        assertEquals(2, interceptor.getBucketCount());
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(31));
+        send(interceptor, "c"); // Sweeps the buckets of a and b
+
+        assertEquals(1, interceptor.getBucketCount());
+    }
+
+    @Test
+    void testEvictionNeverGrantsLargerBurst() {
+        // The idle timeout is shorter than the refill period, so it is stretched to the refill period
+        TokenBucketRateLimitInterceptor interceptor = interceptor(4, Duration.ofSeconds(40), Duration.ofSeconds(1));
+        clock.set(TimeUnit.SECONDS.toNanos(30));
+        for (int i = 0; i < 4; i++) {
+            send(interceptor, "a");
+        }
+        assertEquals(429, send(interceptor, "a").getStatus());
+
+        clock.set(TimeUnit.SECONDS.toNanos(41));
+        send(interceptor, "b"); // Sweeps while a has been quiet for 11s, well past the configured idle timeout
+
+        assertEquals(2, interceptor.getBucketCount()); // a's half-empty bucket was kept...
+        assertEquals(1, countAdmitted(interceptor, "a", 10)); // ...so a only gets the 1.1 tokens refilled since
+    }
+
+    @Test
+    void testAdmitsExactlyCapacityPerClientUnderConcurrency() throws Exception {
+        int capacity = 25;
+        int clients = 4;
+        // Real clock; an hour-long refill adds no tokens while the test runs
+        TokenBucketRateLimitInterceptor interceptor =
+                new TokenBucketRateLimitInterceptor(capacity, Duration.ofHours(1), CLIENT_HEADER, Duration.ofHours(1));
+
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<List<Future<Boolean>>> results = new ArrayList<>();
+            for (int client = 0; client < clients; client++) {
+                String clientId = "client-" + client;
+                List<Future<Boolean>> attempts = new ArrayList<>();
+                for (int i = 0; i < 200; i++) {
+                    attempts.add(executor.submit(() -> {
+                        start.await();
+                        return interceptor.preHandle(request(clientId), new MockHttpServletResponse(), null);
+                    }));
+                }
+                results.add(attempts);
+            }
+            start.countDown();
+
+            for (List<Future<Boolean>> attempts : results) {
+                int admitted = 0;
+                for (Future<Boolean> attempt : attempts) {
+                    if (attempt.get(10, TimeUnit.SECONDS)) {
+                        admitted++;
+                    }
+                }
+                assertEquals(capacity, admitted);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private TokenBucketRateLimitInterceptor interceptor(int capacity, Duration refillPeriod, Duration idleTimeout) {
+        return new TokenBucketRateLimitInterceptor(capacity, refillPeriod, CLIENT_HEADER, idleTimeout, clock::get);
+    }
+
+    private static MockHttpServletRequest request(String clientId) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/employee");
+        request.addHeader(CLIENT_HEADER, clientId);
+        return request;
+    }
+
+    private static MockHttpServletResponse send(TokenBucketRateLimitInterceptor interceptor, String clientId) {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        interceptor.preHandle(request(clientId), response, null);
+        return response;
+    }
+
+    private static int countAdmitted(TokenBucketRateLimitInterceptor interceptor, String clientId, int attempts) {
+        int admitted = 0;
+        for (int i = 0; i < attempts; i++) {
+            if (send(interceptor, clientId).getStatus() == 200) {
+                admitted++;
+            }
+        }
+        return admitted;
+    }
+}
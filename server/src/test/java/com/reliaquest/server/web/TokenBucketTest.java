@@ -0,0 +1,74 @@
+package com.reliaquest.server.web;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit test class for TokenBucket.
+ */
+class TokenBucketTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    // Four tokens, refilled at four per second
+    private final TokenBucket bucket = new TokenBucket(4, 4.0 / SECOND, 0);
+
+    @Test
+    void testStartsFullAndCountsDown() {
+        for (int remaining = 3; remaining >= 0; remaining--) {
+            TokenBucket.Decision decision = bucket.tryConsume(0);
+            assertTrue(decision.allowed());
+            assertEquals(remaining, decision.remaining());
+        }
+
+        TokenBucket.Decision rejected = bucket.tryConsume(0);
+        assertFalse(rejected.allowed());
+        assertEquals(0, rejected.remaining());
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(250), rejected.retryAfterNanos()); // One token every 250ms
+    }
+
+    @Test
+    void testRefillsContinuously() {
+        drain(0);
+
+        TokenBucket.Decision early = bucket.tryConsume(TimeUnit.MILLISECONDS.toNanos(100));
+        assertFalse(early.allowed());
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(150), early.retryAfterNanos(), 1); // 0.4 tokens so far
+
+        assertTrue(bucket.tryConsume(TimeUnit.MILLISECONDS.toNanos(250)).allowed());
+        assertFalse(bucket.tryConsume(TimeUnit.MILLISECONDS.toNanos(250)).allowed());
+    }
+
+    @Test
+    void testRefillIsCappedAtCapacity() {
+        drain(0);
+
+        TokenBucket.Decision decision = bucket.tryConsume(10 * SECOND); // Long enough for 40 tokens
+
+        assertEquals(3, decision.remaining());
+    }
+
+    @Test
+    void testEarlierTimestampDoesNotRefill() {
+        drain(SECOND);
+
+        // A concurrent caller that read the clock slightly earlier gets no tokens out of it
+        assertFalse(bucket.tryConsume(SECOND / 2).allowed());
+    }
+
+    @Test
+    void testIdleOnceUntouchedForIdlePeriod() {
+        bucket.tryConsume(SECOND);
+
+        assertFalse(bucket.isIdle(2 * SECOND, SECOND));
+        assertTrue(bucket.isIdle(2 * SECOND + 1, SECOND));
+    }
+
+    private void drain(long nowNanos) {
+        while (bucket.tryConsume(nowNanos).allowed()) {
+            // Take every token
+        }
+    }
+}